@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.deployment;
+
+import java.util.Set;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The names of the named clients the application uses, listed in {@code quarkus.couchbase.client-names} or discovered
+ * from {@code @CouchbaseClient} qualifiers. The default client is always produced and not listed here.
+ */
+public final class CouchbaseClientNamesBuildItem extends SimpleBuildItem {
+
+    private final Set<String> names;
+
+    public CouchbaseClientNamesBuildItem(Set<String> names) {
+        this.names = Set.copyOf(names);
+    }
+
+    public Set<String> getNames() {
+        return names;
+    }
+}
@@ -15,167 +15,465 @@
  */
 package com.couchbase.quarkus.extension.deployment;
 
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
 
 import jakarta.enterprise.context.ApplicationScoped;
 
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.ClassType;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
 
 import com.couchbase.client.core.api.kv.CoreKvBinaryOps;
 import com.couchbase.client.core.api.kv.CoreKvOps;
+import com.couchbase.client.core.io.CollectionIdentifier;
 import com.couchbase.client.java.Bucket;
 import com.couchbase.client.java.Cluster;
+import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.Scope;
+import com.couchbase.quarkus.extension.deployment.nettyhandling.EventLoopGroupBuildItem;
+import com.couchbase.quarkus.extension.runtime.ClusterEnvironmentCustomizer;
 import com.couchbase.quarkus.extension.runtime.CouchbaseBuildTimeConfig;
+import com.couchbase.quarkus.extension.runtime.CouchbaseClient;
+import com.couchbase.quarkus.extension.runtime.CouchbaseCollection;
 import com.couchbase.quarkus.extension.runtime.CouchbaseRecorder;
+import com.couchbase.quarkus.extension.runtime.CouchbaseRuntimeConfig;
+import com.couchbase.quarkus.extension.runtime.CouchbaseScope;
+import com.couchbase.quarkus.extension.runtime.cache.CouchbaseCacheRecorder;
+import com.couchbase.quarkus.extension.runtime.jfr.JfrRecorder;
+import com.couchbase.quarkus.extension.runtime.kv.BlockingCollection;
+import com.couchbase.quarkus.extension.runtime.metrics.CouchbaseMeterFilter;
+import com.couchbase.quarkus.extension.runtime.mutiny.MutinyCluster;
+import com.couchbase.quarkus.extension.runtime.mutiny.MutinyCollection;
+import com.couchbase.quarkus.extension.runtime.tracing.TracingRecorder;
+import com.couchbase.quarkus.extension.runtime.warmup.CouchbaseWarmup;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
+import io.quarkus.arc.deployment.SyntheticBeansRuntimeInitBuildItem;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
+import io.quarkus.cache.deployment.spi.CacheManagerInfoBuildItem;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.Consume;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageProxyDefinitionBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeMonitoringBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
 import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.pkg.NativeConfig;
 import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
 
 public class CouchbaseProcessor {
 
+    private static final Logger LOG = Logger.getLogger(CouchbaseProcessor.class);
+
+    private static final DotName COUCHBASE_CLIENT = DotName.createSimple(CouchbaseClient.class.getName());
+    private static final DotName COUCHBASE_COLLECTION = DotName.createSimple(CouchbaseCollection.class.getName());
+    private static final DotName COUCHBASE_SCOPE = DotName.createSimple(CouchbaseScope.class.getName());
+    private static final DotName CACHE_RESULT = DotName.createSimple("io.quarkus.cache.CacheResult");
+
+    @BuildStep
+    AdditionalBeanBuildItem registerClientQualifier() {
+        return AdditionalBeanBuildItem.builder()
+                .addBeanClasses(CouchbaseClient.class, CouchbaseCollection.class, CouchbaseScope.class)
+                .build();
+    }
+
+    @BuildStep
+    void registerMeterFilter(CouchbaseBuildTimeConfig buildTimeConfig,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (isMetricsEnabled(buildTimeConfig, metricsCapability)) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(CouchbaseMeterFilter.class));
+        }
+    }
+
+    @BuildStep
+    AdditionalBeanBuildItem registerWarmup() {
+        return AdditionalBeanBuildItem.unremovableOf(CouchbaseWarmup.class);
+    }
+
+    @BuildStep
+    UnremovableBeanBuildItem keepEnvironmentCustomizers() {
+        // Customizers are only looked up programmatically when a client is created.
+        return UnremovableBeanBuildItem.beanTypes(ClusterEnvironmentCustomizer.class);
+    }
+
+    @BuildStep
+    CouchbaseClientNamesBuildItem clientNames(CouchbaseBuildTimeConfig buildTimeConfig, CombinedIndexBuildItem index) {
+        Set<String> names = new TreeSet<>();
+        buildTimeConfig.clientNames().ifPresent(names::addAll);
+        for (AnnotationInstance qualifier : index.getIndex().getAnnotations(COUCHBASE_CLIENT)) {
+            names.add(qualifier.value().asString());
+        }
+        for (Keyspace keyspace : keyspaces(index, COUCHBASE_SCOPE)) {
+            names.add(keyspace.client());
+        }
+        for (Keyspace keyspace : keyspaces(index, COUCHBASE_COLLECTION)) {
+            names.add(keyspace.client());
+        }
+        names.remove(CouchbaseClient.DEFAULT_CLIENT_NAME);
+        return new CouchbaseClientNamesBuildItem(names);
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     public void produceCouchbaseClient(CouchbaseRecorder recorder,
             CouchbaseBuildTimeConfig buildTimeConfig,
             Optional<MetricsCapabilityBuildItem> metricsCapability,
+            EventLoopGroupBuildItem eventLoopGroups,
+            CouchbaseClientNamesBuildItem clientNames,
+            ShutdownContextBuildItem shutdownContext,
             BuildProducer<SyntheticBeanBuildItem> syntheticBeans) {
 
-        var metricsEnabled = buildTimeConfig.metricsEnabled()
-                && metricsCapability.isPresent()
-                && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER);
+        var metricsEnabled = isMetricsEnabled(buildTimeConfig, metricsCapability);
+        recorder.checkClientNames(allClientNames(clientNames));
+        recorder.validateEnvironments(allClientNames(clientNames));
+        var sharedEnvironment = recorder.getSharedEnvironment(metricsEnabled, buildTimeConfig.ioTransport(),
+                eventLoopGroups.getMainEventLoopGroup(), shutdownContext);
 
-        syntheticBeans.produce(SyntheticBeanBuildItem
-                .configure(Cluster.class)
-                .scope(ApplicationScoped.class)
-                .unremovable()
-                .supplier(recorder.getCluster(metricsEnabled))
-                .setRuntimeInit()
-                .done());
+        for (String clientName : allClientNames(clientNames)) {
+            syntheticBeans.produce(configure(Cluster.class, clientName)
+                    .supplier(recorder.getCluster(clientName, metricsEnabled, buildTimeConfig.ioTransport(),
+                            eventLoopGroups.getMainEventLoopGroup(), sharedEnvironment, shutdownContext))
+                    .setRuntimeInit()
+                    .done());
+        }
     }
 
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     public void produceBucket(CouchbaseRecorder recorder,
+            CouchbaseClientNamesBuildItem clientNames,
             BuildProducer<SyntheticBeanBuildItem> syntheticBeans) {
 
-        syntheticBeans.produce(SyntheticBeanBuildItem
-                .configure(Bucket.class)
+        for (String clientName : allClientNames(clientNames)) {
+            syntheticBeans.produce(configure(Bucket.class, clientName)
+                    .addInjectionPoint(classType(Cluster.class), qualifiers(clientName))
+                    .createWith(recorder.getBucket(clientName))
+                    .setRuntimeInit()
+                    .done());
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void produceMutinyBeans(CouchbaseRecorder recorder,
+            CouchbaseBuildTimeConfig buildTimeConfig,
+            Optional<MetricsCapabilityBuildItem> metricsCapability,
+            Capabilities capabilities,
+            CouchbaseClientNamesBuildItem clientNames,
+            BuildProducer<SyntheticBeanBuildItem> syntheticBeans) {
+
+        var metricsEnabled = isMetricsEnabled(buildTimeConfig, metricsCapability);
+        // The near cache is built on Caffeine, which is only present when the application adds quarkus-caffeine.
+        var nearCacheSupported = capabilities.isPresent(Capability.CAFFEINE);
+        for (String clientName : allClientNames(clientNames)) {
+            syntheticBeans.produce(configure(MutinyCluster.class, clientName)
+                    .addInjectionPoint(classType(Cluster.class), qualifiers(clientName))
+                    .createWith(recorder.getMutinyCluster(clientName, metricsEnabled, nearCacheSupported))
+                    .setRuntimeInit()
+                    .done());
+
+            syntheticBeans.produce(configure(MutinyCollection.class, clientName)
+                    .addInjectionPoint(classType(MutinyCluster.class), qualifiers(clientName))
+                    .createWith(recorder.getMutinyCollection(clientName))
+                    .setRuntimeInit()
+                    .done());
+
+            syntheticBeans.produce(configure(BlockingCollection.class, clientName)
+                    .addInjectionPoint(classType(MutinyCollection.class), qualifiers(clientName))
+                    .createWith(recorder.getBlockingCollection(clientName))
+                    .setRuntimeInit()
+                    .done());
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void produceKeyspaceBeans(CouchbaseRecorder recorder,
+            CombinedIndexBuildItem index,
+            BuildProducer<SyntheticBeanBuildItem> syntheticBeans) {
+
+        for (Keyspace scope : keyspaces(index, COUCHBASE_SCOPE)) {
+            syntheticBeans.produce(configure(Scope.class, scope.qualifier(COUCHBASE_SCOPE))
+                    .addInjectionPoint(classType(Cluster.class), qualifiers(scope.client()))
+                    .createWith(recorder.getScope(scope.client(), scope.bucket(), scope.scope()))
+                    .setRuntimeInit()
+                    .done());
+        }
+
+        for (Keyspace collection : keyspaces(index, COUCHBASE_COLLECTION)) {
+            AnnotationInstance qualifier = collection.qualifier(COUCHBASE_COLLECTION);
+            syntheticBeans.produce(configure(Collection.class, qualifier)
+                    .addInjectionPoint(classType(MutinyCluster.class), qualifiers(collection.client()))
+                    .createWith(recorder.getCollection(collection.client(), collection.bucket(), collection.scope(),
+                            collection.collection()))
+                    .setRuntimeInit()
+                    .done());
+
+            syntheticBeans.produce(configure(MutinyCollection.class, qualifier)
+                    .addInjectionPoint(classType(MutinyCluster.class), qualifiers(collection.client()))
+                    .createWith(recorder.getMutinyCollection(collection.client(), collection.bucket(), collection.scope(),
+                            collection.collection()))
+                    .setRuntimeInit()
+                    .done());
+
+            syntheticBeans.produce(configure(BlockingCollection.class, qualifier)
+                    .addInjectionPoint(classType(MutinyCluster.class), qualifiers(collection.client()))
+                    .createWith(recorder.getBlockingCollection(collection.client(), collection.bucket(),
+                            collection.scope(), collection.collection()))
+                    .setRuntimeInit()
+                    .done());
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    @Consume(SyntheticBeansRuntimeInitBuildItem.class)
+    public void resolveCollections(CouchbaseRecorder recorder, CombinedIndexBuildItem index) {
+        if (!index.getIndex().getAnnotations(COUCHBASE_COLLECTION).isEmpty()) {
+            recorder.resolveCollections();
+        }
+    }
+
+    /**
+     * Returns the distinct keyspaces named by the given qualifier on injection points, with unset members defaulted.
+     */
+    private static Set<Keyspace> keyspaces(CombinedIndexBuildItem index, DotName qualifier) {
+        Set<Keyspace> keyspaces = new LinkedHashSet<>();
+        for (AnnotationInstance annotation : index.getIndex().getAnnotations(qualifier)) {
+            keyspaces.add(new Keyspace(
+                    stringValue(annotation, "client", CouchbaseClient.DEFAULT_CLIENT_NAME),
+                    stringValue(annotation, "bucket", ""),
+                    stringValue(annotation, "scope", CollectionIdentifier.DEFAULT_SCOPE),
+                    qualifier.equals(COUCHBASE_COLLECTION)
+                            ? stringValue(annotation, "collection", CollectionIdentifier.DEFAULT_COLLECTION)
+                            : null));
+        }
+        return keyspaces;
+    }
+
+    private static String stringValue(AnnotationInstance annotation, String name, String defaultValue) {
+        AnnotationValue value = annotation.value(name);
+        return value == null ? defaultValue : value.asString();
+    }
+
+    private record Keyspace(String client, String bucket, String scope, String collection) {
+
+        /**
+         * Builds the bean qualifier with every member set, so it matches injection points that rely on defaults.
+         */
+        AnnotationInstance qualifier(DotName name) {
+            var builder = AnnotationInstance.builder(name)
+                    .add("client", client)
+                    .add("bucket", bucket)
+                    .add("scope", scope);
+            if (collection != null) {
+                builder.add("collection", collection);
+            }
+            return builder.build();
+        }
+    }
+
+    private static List<String> allClientNames(CouchbaseClientNamesBuildItem clientNames) {
+        List<String> names = new ArrayList<>();
+        names.add(CouchbaseClient.DEFAULT_CLIENT_NAME);
+        names.addAll(clientNames.getNames());
+        return names;
+    }
+
+    /**
+     * Starts an application scoped synthetic bean of the given client: the default client's beans have the
+     * {@code @Default} qualifier and named clients' beans have {@code @CouchbaseClient("name")}.
+     */
+    private static SyntheticBeanBuildItem.ExtendedBeanConfigurator configure(Class<?> type, String clientName) {
+        SyntheticBeanBuildItem.ExtendedBeanConfigurator configurator = SyntheticBeanBuildItem
+                .configure(type)
+                .scope(ApplicationScoped.class)
+                .unremovable();
+        if (!CouchbaseRuntimeConfig.isDefaultClient(clientName)) {
+            configurator.addQualifier(qualifier(clientName));
+        }
+        return configurator;
+    }
+
+    private static SyntheticBeanBuildItem.ExtendedBeanConfigurator configure(Class<?> type, AnnotationInstance qualifier) {
+        return SyntheticBeanBuildItem
+                .configure(type)
                 .scope(ApplicationScoped.class)
                 .unremovable()
-                .addInjectionPoint(Type.create(DotName.createSimple(Cluster.class.getName()), Type.Kind.CLASS))
-                .createWith(recorder.getBucket())
-                .setRuntimeInit()
-                .done());
+                .addQualifier(qualifier);
+    }
+
+    private static Type classType(Class<?> type) {
+        return Type.create(DotName.createSimple(type.getName()), Type.Kind.CLASS);
+    }
+
+    private static AnnotationInstance[] qualifiers(String clientName) {
+        return CouchbaseRuntimeConfig.isDefaultClient(clientName)
+                ? new AnnotationInstance[0]
+                : new AnnotationInstance[] { qualifier(clientName) };
+    }
+
+    private static AnnotationInstance qualifier(String clientName) {
+        return AnnotationInstance.builder(COUCHBASE_CLIENT).add("value", clientName).build();
+    }
+
+    private static boolean isMetricsEnabled(CouchbaseBuildTimeConfig buildTimeConfig,
+            Optional<MetricsCapabilityBuildItem> metricsCapability) {
+        return buildTimeConfig.metricsEnabled()
+                && metricsCapability.isPresent()
+                && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER);
+    }
+
+    @BuildStep
+    void addHealthCheck(CouchbaseBuildTimeConfig buildTimeConfig, BuildProducer<HealthBuildItem> healthChecks) {
+        healthChecks.produce(new HealthBuildItem("com.couchbase.quarkus.extension.runtime.health.CouchbaseReadyCheck",
+                buildTimeConfig.healthEnabled()));
+        healthChecks.produce(new HealthBuildItem("com.couchbase.quarkus.extension.runtime.health.CouchbaseKvReadyCheck",
+                buildTimeConfig.healthEnabled() && buildTimeConfig.kvHealthEnabled()));
+        healthChecks.produce(new HealthBuildItem("com.couchbase.quarkus.extension.runtime.health.CouchbaseQueryReadyCheck",
+                buildTimeConfig.healthEnabled() && buildTimeConfig.queryHealthEnabled()));
+        healthChecks.produce(new HealthBuildItem("com.couchbase.quarkus.extension.runtime.health.CouchbaseSearchReadyCheck",
+                buildTimeConfig.healthEnabled() && buildTimeConfig.searchHealthEnabled()));
+        healthChecks.produce(new HealthBuildItem("com.couchbase.quarkus.extension.runtime.health.CouchbaseAnalyticsReadyCheck",
+                buildTimeConfig.healthEnabled() && buildTimeConfig.analyticsHealthEnabled()));
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void cacheManager(Capabilities capabilities, CouchbaseCacheRecorder recorder, CombinedIndexBuildItem index,
+            BuildProducer<CacheManagerInfoBuildItem> cacheManagerInfos) {
+        if (capabilities.isPresent(Capability.CACHE)) {
+            cacheManagerInfos.produce(new CacheManagerInfoBuildItem(
+                    recorder.getCacheManagerInfo(cacheValueClasses(index.getIndex()))));
+        }
+    }
+
+    /**
+     * Collects the application classes that cached values may be deserialized into: the types returned by
+     * {@code @CacheResult} methods, with their type arguments, superclasses and the types of their fields. JDK classes
+     * are left to the transcoder's own allow-list.
+     */
+    static Set<String> cacheValueClasses(IndexView index) {
+        Set<String> classes = new TreeSet<>();
+        Deque<Type> pending = new ArrayDeque<>();
+        for (AnnotationInstance cacheResult : index.getAnnotations(CACHE_RESULT)) {
+            if (cacheResult.target().kind() == AnnotationTarget.Kind.METHOD) {
+                pending.add(cacheResult.target().asMethod().returnType());
+            }
+        }
+        while (!pending.isEmpty()) {
+            Type type = pending.poll();
+            switch (type.kind()) {
+                case ARRAY -> pending.add(type.asArrayType().elementType());
+                case WILDCARD_TYPE -> pending.add(type.asWildcardType().extendsBound());
+                case PARAMETERIZED_TYPE -> {
+                    pending.addAll(type.asParameterizedType().arguments());
+                    pending.add(ClassType.create(type.name()));
+                }
+                case CLASS -> {
+                    String name = type.name().toString();
+                    if (name.startsWith("java.") || !classes.add(name)) {
+                        continue;
+                    }
+                    ClassInfo info = index.getClassByName(type.name());
+                    if (info != null) {
+                        if (info.superClassType() != null) {
+                            pending.add(info.superClassType());
+                        }
+                        for (FieldInfo field : info.fields()) {
+                            if (!Modifier.isStatic(field.flags()) && !Modifier.isTransient(field.flags())) {
+                                pending.add(field.type());
+                            }
+                        }
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return classes;
     }
 
     @BuildStep
-    HealthBuildItem addHealthCheck(CouchbaseBuildTimeConfig buildTimeConfig) {
-        return new HealthBuildItem("com.couchbase.quarkus.extension.runtime.health.CouchbaseReadyCheck",
-                buildTimeConfig.healthEnabled());
+    @Record(ExecutionTime.STATIC_INIT)
+    void jfr(CouchbaseBuildTimeConfig buildTimeConfig, JfrRecorder recorder,
+            BuildProducer<NativeMonitoringBuildItem> nativeMonitoring) {
+        if (buildTimeConfig.jfrEnabled()) {
+            // Static init, so the tracer is enabled before any cluster can be created.
+            recorder.enable();
+            nativeMonitoring.produce(new NativeMonitoringBuildItem(NativeConfig.MonitoringOption.JFR));
+        }
     }
 
     @BuildStep
-    void kvProxies(BuildProducer<NativeImageProxyDefinitionBuildItem> proxies) {
+    @Record(ExecutionTime.STATIC_INIT)
+    void tracing(CouchbaseBuildTimeConfig buildTimeConfig, Capabilities capabilities, TracingRecorder recorder) {
+        if (buildTimeConfig.tracingEnabled() && capabilities.isPresent(Capability.OPENTELEMETRY_TRACER)) {
+            recorder.enable();
+        }
+    }
+
+    private static final List<DotName> BINARY_COLLECTIONS = List.of(
+            DotName.createSimple("com.couchbase.client.java.BinaryCollection"),
+            DotName.createSimple("com.couchbase.client.java.AsyncBinaryCollection"),
+            DotName.createSimple("com.couchbase.client.java.ReactiveBinaryCollection"));
+
+    @BuildStep
+    void kvProxies(CouchbaseBuildTimeConfig buildTimeConfig, CombinedIndexBuildItem index,
+            BuildProducer<NativeImageProxyDefinitionBuildItem> proxies) {
         proxies.produce(new NativeImageProxyDefinitionBuildItem(CoreKvOps.class.getName()));
-        proxies.produce(new NativeImageProxyDefinitionBuildItem(CoreKvBinaryOps.class.getName()));
-    }
-
-    @BuildStep
-    ReflectiveClassBuildItem reflection() {
-        return ReflectiveClassBuildItem.builder(
-                new String[] {
-                        //Transactions
-                        "com.couchbase.client.core.util.ReactorOps",
-                        //Error
-                        "com.couchbase.client.core.transaction.components.ActiveTransactionRecordEntry",
-                        "com.couchbase.client.core.transaction.components.DocRecord",
-                        //Bucket Manager
-                        "com.couchbase.client.core.manager.bucket.CoreCompressionMode",
-                        "com.couchbase.client.core.manager.bucket.CoreEvictionPolicyType",
-                        "com.couchbase.client.core.manager.bucket.CoreStorageBackend",
-                        "com.couchbase.client.core.manager.bucket.CoreConflictResolutionType",
-                        "com.couchbase.client.core.manager.bucket.BucketSettings",
-                        "com.couchbase.client.java.manager.bucket.BucketSettings",
-                        "com.couchbase.client.core.manager.bucket.CoreBucketSettings",
-                        "com.couchbase.client.core.classic.manager.CoreBucketSettingsJson",
-                        "com.couchbase.client.core.config.BucketType",
-                        "com.couchbase.client.core.msg.kv.DurabilityLevel",
-
-                        "com.couchbase.client.core.config.CollectionsManifestCollection",
-                        "com.couchbase.client.core.config.CollectionsManifestScope",
-                        "com.couchbase.client.core.config.CollectionsManifest",
-                        "com.couchbase.client.core.error.ErrorCodeAndMessage",
-                        "com.couchbase.client.core.msg.BaseResponse",
-                        "com.couchbase.client.core.endpoint.http.CoreHttpResponse",
-                        "com.couchbase.client.core.endpoint.http.CoreCommonOptions",
-                        "com.couchbase.client.core.logging.RedactableArgument",
-                        "com.couchbase.client.core.msg.CancellationReason",
-                        "com.couchbase.client.core.api.manager.search.CoreSearchIndex",
-                        "com.couchbase.client.java.manager.search.SearchIndex",
-                        //Search
-                        //Result
-                        "com.couchbase.client.core.api.search.result.CoreAbstractSearchFacetResult",
-                        "com.couchbase.client.core.api.search.result.CoreDateRangeSearchFacetResult",
-                        "com.couchbase.client.core.api.search.result.CoreNumericRangeSearchFacetResult",
-                        "com.couchbase.client.core.api.search.result.CoreReactiveSearchResult",
-                        "com.couchbase.client.core.api.search.result.CoreSearchDateRange",
-                        "com.couchbase.client.core.api.search.result.CoreSearchFacetResult",
-                        "com.couchbase.client.core.api.search.result.CoreSearchMetrics",
-                        "com.couchbase.client.core.api.search.result.CoreSearchNumericRange",
-                        "com.couchbase.client.core.api.search.result.CoreSearchResult",
-                        "com.couchbase.client.core.api.search.result.CoreSearchRow",
-                        "com.couchbase.client.core.api.search.result.CoreSearchRowLocation",
-                        "com.couchbase.client.core.api.search.result.CoreSearchRowLocations",
-                        "com.couchbase.client.core.api.search.result.CoreSearchStatus",
-                        "com.couchbase.client.core.api.search.result.CoreSearchTermRange",
-                        "com.couchbase.client.core.api.search.result.CoreTermSearchFacetResult",
-                        //Facet
-                        "com.couchbase.client.core.api.search.facet.CoreDateRange",
-                        "com.couchbase.client.core.api.search.facet.CoreDateRangeFacet",
-                        "com.couchbase.client.core.api.search.facet.CoreNumericRange",
-                        "com.couchbase.client.core.api.search.facet.CoreNumericRangeFacet",
-                        "com.couchbase.client.core.api.search.facet.CoreSearchFacet",
-                        "com.couchbase.client.core.api.search.facet.CoreTermFacet",
-                        //Vector
-                        "com.couchbase.client.core.api.search.vector.CoreVector",
-                        "com.couchbase.client.core.api.search.vector.CoreVectorQuery",
-                        "com.couchbase.client.core.api.search.vector.CoreVectorQueryCombination",
-                        "com.couchbase.client.core.api.search.vector.CoreVectorSearch",
-                        "com.couchbase.client.core.api.search.vector.CoreVectorSearchOptions",
-                        // Configuration
-                        "com.couchbase.client.core.env.ThresholdRequestTracerConfig$Builder",
-                        "com.couchbase.client.core.env.SecurityConfig$Builder",
-                        "com.couchbase.client.core.env.TimeoutConfig$Builder",
-                        "com.couchbase.client.core.env.ThresholdLoggingTracerConfig$Builder",
-                        "com.couchbase.client.core.env.CompressionConfig$Builder",
-                        "com.couchbase.client.core.env.OrphanReporterConfig$Builder",
-                        "com.couchbase.client.core.env.LoggingMeterConfig$Builder",
-                        "com.couchbase.client.core.env.TimerConfig$Builder",
-                        "com.couchbase.client.core.env.IoConfig$Builder",
-                        "com.couchbase.client.core.env.LoggerConfig$Builder",
-                        "com.couchbase.client.core.endpoint.CircuitBreakerConfig$Builder",
-                        "com.couchbase.client.core.service.AnalyticsServiceConfig$Builder",
-                        "com.couchbase.client.core.service.ViewServiceConfig$Builder",
-                        "com.couchbase.client.core.service.KeyValueServiceConfig$Builder",
-                        "com.couchbase.client.core.service.SearchServiceConfig$Builder",
-                        "com.couchbase.client.core.service.QueryServiceConfig$Builder",
-                        "com.couchbase.client.core.service.AbstractPooledEndpointServiceConfig$Builder",
-                        "com.couchbase.client.core.env.CoreEnvironment$Builder",
-                        "com.couchbase.client.java.env.ClusterEnvironment$Builder"
-                }).fields().methods().build();
+        if (!buildTimeConfig.pruneReflection() || SdkFeature.isAnyUsed(index.getIndex(), BINARY_COLLECTIONS)) {
+            proxies.produce(new NativeImageProxyDefinitionBuildItem(CoreKvBinaryOps.class.getName()));
+        }
+    }
+
+    @BuildStep
+    void reflection(CouchbaseBuildTimeConfig buildTimeConfig, CombinedIndexBuildItem index,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        List<String> pruned = new ArrayList<>();
+        for (SdkFeature feature : SdkFeature.values()) {
+            if (!buildTimeConfig.pruneReflection() || feature.isUsed(index.getIndex())) {
+                reflectiveClasses.produce(ReflectiveClassBuildItem.builder(feature.reflectiveClasses())
+                        .fields().methods().build());
+            } else {
+                pruned.add(feature.name());
+            }
+        }
+        if (buildTimeConfig.pruneReflection() && !SdkFeature.isAnyUsed(index.getIndex(), BINARY_COLLECTIONS)) {
+            pruned.add("BINARY_COLLECTIONS");
+        }
+        if (!pruned.isEmpty()) {
+            LOG.infof("No indexed class uses the Couchbase SDK features %s, their native image metadata is not registered."
+                    + " Set quarkus.couchbase.native.prune-reflection=false if they are reached from a library without"
+                    + " a Jandex index or through reflection", pruned);
+        }
     }
 
     @BuildStep
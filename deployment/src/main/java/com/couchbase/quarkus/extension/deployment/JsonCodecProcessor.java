@@ -0,0 +1,473 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.deployment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.logging.Logger;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import com.couchbase.quarkus.extension.runtime.CouchbaseBuildTimeConfig;
+import com.couchbase.quarkus.extension.runtime.codec.BeanAccessor;
+import com.couchbase.quarkus.extension.runtime.codec.CodecDefinition;
+import com.couchbase.quarkus.extension.runtime.codec.JsonCodecRecorder;
+import com.couchbase.quarkus.extension.runtime.codec.JsonKind;
+
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
+import io.quarkus.deployment.annotations.BuildProducer;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+
+/**
+ * Generates JSON codecs for the application's DTOs when {@code quarkus.couchbase.json.generated-codecs} is enabled.
+ * <p>
+ * DTOs are found by scanning the bytecode of the application for class literals passed to {@code contentAs},
+ * {@code rowsAs} or {@code queryRows}. A DTO gets a codec when it is a public top-level or static nested class with a
+ * public no-args constructor, extends {@code Object}, has no Jackson or encryption annotations, and each of its
+ * properties is readable and writable through public fields or accessors, with a string, primitive, boxed primitive,
+ * DTO or {@code List} of those as type. Anything else is left to the SDK's serializer.
+ */
+public class JsonCodecProcessor {
+
+    private static final Logger LOG = Logger.getLogger(JsonCodecProcessor.class);
+
+    private static final Set<String> DECODING_METHODS = Set.of("contentAs", "rowsAs", "queryRows");
+
+    /**
+     * The types whose users may decode into a DTO, limiting the classes whose bytecode is scanned.
+     */
+    private static final List<DotName> RESULT_TYPES = List.of(
+            DotName.createSimple("com.couchbase.client.java.kv.GetResult"),
+            DotName.createSimple("com.couchbase.client.java.kv.GetReplicaResult"),
+            DotName.createSimple("com.couchbase.client.java.kv.LookupInResult"),
+            DotName.createSimple("com.couchbase.client.java.query.QueryResult"),
+            DotName.createSimple("com.couchbase.client.java.query.ReactiveQueryResult"),
+            DotName.createSimple("com.couchbase.client.java.analytics.AnalyticsResult"),
+            DotName.createSimple("com.couchbase.client.java.analytics.ReactiveAnalyticsResult"),
+            DotName.createSimple("com.couchbase.quarkus.extension.runtime.mutiny.MutinyCluster"));
+
+    private static final DotName OBJECT = DotName.createSimple(Object.class.getName());
+    private static final DotName LIST = DotName.createSimple(List.class.getName());
+    private static final DotName ENCRYPTED = DotName
+            .createSimple("com.couchbase.client.java.encryption.annotation.Encrypted");
+
+    private static final Map<DotName, JsonKind> SCALARS = Map.of(
+            DotName.createSimple(String.class.getName()), JsonKind.STRING,
+            DotName.createSimple(Boolean.class.getName()), JsonKind.BOOLEAN,
+            DotName.createSimple(Byte.class.getName()), JsonKind.BYTE,
+            DotName.createSimple(Short.class.getName()), JsonKind.SHORT,
+            DotName.createSimple(Integer.class.getName()), JsonKind.INT,
+            DotName.createSimple(Long.class.getName()), JsonKind.LONG,
+            DotName.createSimple(Float.class.getName()), JsonKind.FLOAT,
+            DotName.createSimple(Double.class.getName()), JsonKind.DOUBLE);
+
+    private static final Map<PrimitiveType.Primitive, Class<?>> PRIMITIVES = Map.of(
+            PrimitiveType.Primitive.BOOLEAN, boolean.class,
+            PrimitiveType.Primitive.BYTE, byte.class,
+            PrimitiveType.Primitive.SHORT, short.class,
+            PrimitiveType.Primitive.INT, int.class,
+            PrimitiveType.Primitive.LONG, long.class,
+            PrimitiveType.Primitive.FLOAT, float.class,
+            PrimitiveType.Primitive.DOUBLE, double.class);
+
+    private static final Map<PrimitiveType.Primitive, Class<?>> WRAPPERS = Map.of(
+            PrimitiveType.Primitive.BOOLEAN, Boolean.class,
+            PrimitiveType.Primitive.BYTE, Byte.class,
+            PrimitiveType.Primitive.SHORT, Short.class,
+            PrimitiveType.Primitive.INT, Integer.class,
+            PrimitiveType.Primitive.LONG, Long.class,
+            PrimitiveType.Primitive.FLOAT, Float.class,
+            PrimitiveType.Primitive.DOUBLE, Double.class);
+
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void generateCodecs(CouchbaseBuildTimeConfig buildTimeConfig, CombinedIndexBuildItem combinedIndex,
+            ApplicationIndexBuildItem applicationIndex, JsonCodecRecorder recorder,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses) {
+        if (!buildTimeConfig.generatedCodecs()) {
+            return;
+        }
+        IndexView index = combinedIndex.getIndex();
+        Map<DotName, Dto> dtos = introspect(index, decodedTypes(index, applicationIndex.getIndex()));
+        if (dtos.isEmpty()) {
+            return;
+        }
+
+        ClassOutput output = new GeneratedClassGizmoAdaptor(generatedClasses, true);
+        List<CodecDefinition> definitions = new ArrayList<>();
+        for (Dto dto : dtos.values()) {
+            String accessor = dto.type().name() + "$$CouchbaseJsonAccessor";
+            generateAccessor(output, accessor, dto);
+            CodecDefinition definition = new CodecDefinition();
+            definition.setType(dto.type().name().toString());
+            definition.setAccessor(accessor);
+            for (Property property : dto.properties()) {
+                definition.getProperties().add(property.definition());
+            }
+            definitions.add(definition);
+        }
+        LOG.debugf("Generated Couchbase JSON codecs for %s", dtos.keySet());
+        recorder.register(definitions);
+    }
+
+    /**
+     * Collects the class literals that application classes pass to a decoding method.
+     */
+    private static Set<DotName> decodedTypes(IndexView index, IndexView applicationIndex) {
+        Set<DotName> callers = new HashSet<>();
+        for (DotName resultType : RESULT_TYPES) {
+            for (ClassInfo user : index.getKnownUsers(resultType)) {
+                if (applicationIndex.getClassByName(user.name()) != null) {
+                    callers.add(user.name());
+                }
+            }
+        }
+
+        Set<DotName> decoded = new HashSet<>();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        for (DotName caller : callers) {
+            String resource = caller.toString().replace('.', '/') + ".class";
+            try (InputStream in = classLoader.getResourceAsStream(resource)) {
+                if (in != null) {
+                    new ClassReader(in).accept(new DecodingCallVisitor(decoded), ClassReader.SKIP_DEBUG);
+                }
+            } catch (IOException e) {
+                LOG.debugf(e, "Unable to read %s, its DTOs will use the SDK's serializer", resource);
+            }
+        }
+        return decoded;
+    }
+
+    /**
+     * Introspects the decoded types and the DTOs they nest, keeping those a codec can be generated for.
+     */
+    private static Map<DotName, Dto> introspect(IndexView index, Set<DotName> decoded) {
+        Map<DotName, Dto> dtos = new LinkedHashMap<>();
+        Set<DotName> visited = new HashSet<>();
+        Deque<DotName> pending = new ArrayDeque<>(decoded);
+        while (!pending.isEmpty()) {
+            DotName name = pending.poll();
+            if (!visited.add(name)) {
+                continue;
+            }
+            Dto dto = introspect(index, name);
+            if (dto != null) {
+                dtos.put(name, dto);
+                for (Property property : dto.properties()) {
+                    if (property.target() != null) {
+                        pending.add(property.target());
+                    }
+                }
+            }
+        }
+
+        // A DTO nesting a type without a codec is left to the SDK's serializer as a whole.
+        boolean removed = true;
+        while (removed) {
+            removed = dtos.values().removeIf(dto -> dto.properties().stream()
+                    .anyMatch(property -> property.target() != null && !dtos.containsKey(property.target())));
+        }
+        return dtos;
+    }
+
+    private static Dto introspect(IndexView index, DotName name) {
+        ClassInfo type = index.getClassByName(name);
+        if (type == null
+                || !Modifier.isPublic(type.flags())
+                || Modifier.isAbstract(type.flags())
+                || type.isInterface() || type.isEnum() || type.isRecord() || type.isAnnotation()
+                || (type.nestingType() != ClassInfo.NestingType.TOP_LEVEL && !Modifier.isStatic(type.flags()))
+                || !OBJECT.equals(type.superName())
+                || !hasPublicNoArgsConstructor(type)
+                || hasJacksonAnnotations(type)) {
+            return null;
+        }
+
+        Map<String, FieldInfo> fields = new LinkedHashMap<>();
+        for (FieldInfo field : type.fields()) {
+            int flags = field.flags();
+            if (Modifier.isPublic(flags) && !Modifier.isStatic(flags) && !Modifier.isTransient(flags)) {
+                if (Modifier.isFinal(flags)) {
+                    return null;
+                }
+                fields.put(field.name(), field);
+            }
+        }
+        Map<String, MethodInfo> getters = new LinkedHashMap<>();
+        Map<String, MethodInfo> setters = new LinkedHashMap<>();
+        for (MethodInfo method : type.methods()) {
+            if (!Modifier.isPublic(method.flags()) || Modifier.isStatic(method.flags()) || method.isSynthetic()) {
+                continue;
+            }
+            String methodName = method.name();
+            if (method.parametersCount() == 0 && method.returnType().kind() != Type.Kind.VOID) {
+                if (methodName.startsWith("get") && methodName.length() > 3) {
+                    getters.put(propertyName(methodName.substring(3)), method);
+                } else if (methodName.startsWith("is") && methodName.length() > 2
+                        && method.returnType().kind() == Type.Kind.PRIMITIVE
+                        && method.returnType().asPrimitiveType().primitive() == PrimitiveType.Primitive.BOOLEAN) {
+                    getters.put(propertyName(methodName.substring(2)), method);
+                }
+            } else if (method.parametersCount() == 1 && methodName.startsWith("set") && methodName.length() > 3) {
+                if (setters.put(propertyName(methodName.substring(3)), method) != null) {
+                    // Overloaded setters are resolved by Jackson's own rules, which are not replicated here.
+                    return null;
+                }
+            }
+        }
+
+        Set<String> names = new LinkedHashSet<>(fields.keySet());
+        names.addAll(getters.keySet());
+        names.addAll(setters.keySet());
+        List<Property> properties = new ArrayList<>();
+        for (String propertyName : names) {
+            FieldInfo field = fields.get(propertyName);
+            MethodInfo getter = getters.get(propertyName);
+            MethodInfo setter = setters.get(propertyName);
+            if ((getter == null || setter == null) && field == null) {
+                // Read-only or write-only properties are handled by Jackson's own rules, which are not replicated here.
+                return null;
+            }
+            Type javaType = getter != null ? getter.returnType() : field.type();
+            if (!javaType.equals(setter != null ? setter.parameterType(0) : field.type())) {
+                return null;
+            }
+            Property property = property(propertyName, javaType, field, getter, setter);
+            if (property == null) {
+                return null;
+            }
+            properties.add(property);
+        }
+        return new Dto(type, properties);
+    }
+
+    private static Property property(String name, Type javaType, FieldInfo field, MethodInfo getter, MethodInfo setter) {
+        if (javaType.kind() == Type.Kind.PRIMITIVE) {
+            Class<?> wrapper = WRAPPERS.get(javaType.asPrimitiveType().primitive());
+            if (wrapper == null) {
+                return null;
+            }
+            JsonKind kind = SCALARS.get(DotName.createSimple(wrapper.getName()));
+            return new Property(name, javaType, kind, null, null, field, getter, setter);
+        }
+        if (javaType.kind() == Type.Kind.CLASS) {
+            JsonKind kind = SCALARS.get(javaType.name());
+            return kind != null
+                    ? new Property(name, javaType, kind, null, null, field, getter, setter)
+                    : new Property(name, javaType, JsonKind.OBJECT, null, javaType.name(), field, getter, setter);
+        }
+        if (javaType.kind() == Type.Kind.PARAMETERIZED_TYPE && LIST.equals(javaType.name())
+                && javaType.asParameterizedType().arguments().size() == 1) {
+            Type element = javaType.asParameterizedType().arguments().get(0);
+            if (element.kind() != Type.Kind.CLASS || LIST.equals(element.name())) {
+                return null;
+            }
+            JsonKind kind = SCALARS.get(element.name());
+            return kind != null
+                    ? new Property(name, javaType, JsonKind.LIST, kind, null, field, getter, setter)
+                    : new Property(name, javaType, JsonKind.LIST, JsonKind.OBJECT, element.name(), field, getter, setter);
+        }
+        return null;
+    }
+
+    private static boolean hasPublicNoArgsConstructor(ClassInfo type) {
+        for (MethodInfo constructor : type.constructors()) {
+            if (constructor.parametersCount() == 0 && Modifier.isPublic(constructor.flags())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasJacksonAnnotations(ClassInfo type) {
+        for (AnnotationInstance annotation : type.annotations()) {
+            String name = annotation.name().toString();
+            if (name.startsWith("com.fasterxml.jackson.")
+                    || name.startsWith("com.couchbase.client.core.deps.com.fasterxml.jackson.")
+                    || annotation.name().equals(ENCRYPTED)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Derives a property name the way Jackson does by default, lower-casing the leading upper-case characters.
+     */
+    private static String propertyName(String suffix) {
+        int i = 0;
+        while (i < suffix.length() && Character.isUpperCase(suffix.charAt(i))) {
+            i++;
+        }
+        return suffix.substring(0, i).toLowerCase() + suffix.substring(i);
+    }
+
+    private static void generateAccessor(ClassOutput output, String accessor, Dto dto) {
+        String dtoName = dto.type().name().toString();
+        try (ClassCreator creator = ClassCreator.builder()
+                .classOutput(output)
+                .className(accessor)
+                .interfaces(BeanAccessor.class)
+                .build()) {
+            try (MethodCreator create = creator.getMethodCreator("create", Object.class)) {
+                create.returnValue(create.newInstance(MethodDescriptor.ofConstructor(dtoName)));
+            }
+
+            try (MethodCreator get = creator.getMethodCreator("get", Object.class, Object.class, int.class)) {
+                ResultHandle bean = get.checkCast(get.getMethodParam(0), dtoName);
+                for (int i = 0; i < dto.properties().size(); i++) {
+                    Property property = dto.properties().get(i);
+                    BytecodeCreator branch = get.ifIntegerEqual(get.getMethodParam(1), get.load(i)).trueBranch();
+                    ResultHandle value = property.getter() != null
+                            ? branch.invokeVirtualMethod(MethodDescriptor.of(property.getter()), bean)
+                            : branch.readInstanceField(FieldDescriptor.of(property.field()), bean);
+                    branch.returnValue(box(branch, property.javaType(), value));
+                }
+                get.throwException(IllegalArgumentException.class, "Unknown property index");
+            }
+
+            try (MethodCreator set = creator.getMethodCreator("set", void.class, Object.class, int.class, Object.class)) {
+                ResultHandle bean = set.checkCast(set.getMethodParam(0), dtoName);
+                for (int i = 0; i < dto.properties().size(); i++) {
+                    Property property = dto.properties().get(i);
+                    BytecodeCreator branch = set.ifIntegerEqual(set.getMethodParam(1), set.load(i)).trueBranch();
+                    ResultHandle value = unbox(branch, property.javaType(), set.getMethodParam(2));
+                    if (property.setter() != null) {
+                        branch.invokeVirtualMethod(MethodDescriptor.of(property.setter()), bean, value);
+                    } else {
+                        branch.writeInstanceField(FieldDescriptor.of(property.field()), bean, value);
+                    }
+                    branch.returnVoid();
+                }
+                set.throwException(IllegalArgumentException.class, "Unknown property index");
+            }
+        }
+    }
+
+    private static ResultHandle box(BytecodeCreator bytecode, Type javaType, ResultHandle value) {
+        if (javaType.kind() != Type.Kind.PRIMITIVE) {
+            return value;
+        }
+        PrimitiveType.Primitive primitive = javaType.asPrimitiveType().primitive();
+        Class<?> wrapper = WRAPPERS.get(primitive);
+        return bytecode.invokeStaticMethod(MethodDescriptor.ofMethod(wrapper, "valueOf", wrapper, PRIMITIVES.get(primitive)),
+                value);
+    }
+
+    private static ResultHandle unbox(BytecodeCreator bytecode, Type javaType, ResultHandle value) {
+        if (javaType.kind() != Type.Kind.PRIMITIVE) {
+            return bytecode.checkCast(value, javaType.name().toString());
+        }
+        PrimitiveType.Primitive primitive = javaType.asPrimitiveType().primitive();
+        Class<?> wrapper = WRAPPERS.get(primitive);
+        Class<?> primitiveClass = PRIMITIVES.get(primitive);
+        return bytecode.invokeVirtualMethod(
+                MethodDescriptor.ofMethod(wrapper, primitiveClass.getName() + "Value", primitiveClass),
+                bytecode.checkCast(value, wrapper));
+    }
+
+    private record Dto(ClassInfo type, List<Property> properties) {
+    }
+
+    /**
+     * A JSON property of a DTO, read through its getter or public field and written through its setter or public field.
+     */
+    private record Property(String name, Type javaType, JsonKind kind, JsonKind elementKind, DotName target,
+            FieldInfo field, MethodInfo getter, MethodInfo setter) {
+
+        CodecDefinition.Property definition() {
+            CodecDefinition.Property definition = new CodecDefinition.Property();
+            definition.setName(name);
+            definition.setKind(kind);
+            definition.setElementKind(elementKind);
+            definition.setTarget(target == null ? null : target.toString());
+            definition.setPrimitive(javaType.kind() == Type.Kind.PRIMITIVE);
+            return definition;
+        }
+    }
+
+    /**
+     * Records the class literal most recently loaded in each method, and keeps it when it is passed to a decoding
+     * method taking a {@code Class} as its last parameter.
+     */
+    private static final class DecodingCallVisitor extends ClassVisitor {
+
+        private final Set<DotName> decoded;
+
+        DecodingCallVisitor(Set<DotName> decoded) {
+            super(Opcodes.ASM9);
+            this.decoded = decoded;
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature,
+                String[] exceptions) {
+            return new MethodVisitor(Opcodes.ASM9) {
+
+                org.objectweb.asm.Type lastClassLiteral;
+
+                @Override
+                public void visitLdcInsn(Object value) {
+                    lastClassLiteral = value instanceof org.objectweb.asm.Type type
+                            && type.getSort() == org.objectweb.asm.Type.OBJECT ? type : null;
+                }
+
+                @Override
+                public void visitMethodInsn(int opcode, String owner, String methodName, String methodDescriptor,
+                        boolean isInterface) {
+                    if (lastClassLiteral != null && DECODING_METHODS.contains(methodName)
+                            && methodDescriptor.contains("Ljava/lang/Class;)")) {
+                        decoded.add(DotName.createSimple(lastClassLiteral.getClassName()));
+                    }
+                    lastClassLiteral = null;
+                }
+            };
+        }
+    }
+}
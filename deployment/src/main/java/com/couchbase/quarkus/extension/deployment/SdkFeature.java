@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.deployment;
+
+import java.util.List;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+
+/**
+ * Groups the SDK classes that need reflection in a native image by the SDK feature that uses them. A group is only
+ * registered when a class outside the extension references one of its marker types, so native images do not carry
+ * the metadata of features the application never calls.
+ */
+enum SdkFeature {
+
+    /**
+     * Used by every application: collection manifests, error payloads, HTTP responses and the environment builders.
+     */
+    CORE(List.of(),
+            List.of(
+                    "com.couchbase.client.core.config.BucketType",
+                    "com.couchbase.client.core.msg.kv.DurabilityLevel",
+                    "com.couchbase.client.core.config.CollectionsManifestCollection",
+                    "com.couchbase.client.core.config.CollectionsManifestScope",
+                    "com.couchbase.client.core.config.CollectionsManifest",
+                    "com.couchbase.client.core.error.ErrorCodeAndMessage",
+                    "com.couchbase.client.core.msg.BaseResponse",
+                    "com.couchbase.client.core.endpoint.http.CoreHttpResponse",
+                    "com.couchbase.client.core.endpoint.http.CoreCommonOptions",
+                    "com.couchbase.client.core.logging.RedactableArgument",
+                    "com.couchbase.client.core.msg.CancellationReason",
+                    // Configuration
+                    "com.couchbase.client.core.env.ThresholdRequestTracerConfig$Builder",
+                    "com.couchbase.client.core.env.SecurityConfig$Builder",
+                    "com.couchbase.client.core.env.TimeoutConfig$Builder",
+                    "com.couchbase.client.core.env.ThresholdLoggingTracerConfig$Builder",
+                    "com.couchbase.client.core.env.CompressionConfig$Builder",
+                    "com.couchbase.client.core.env.OrphanReporterConfig$Builder",
+                    "com.couchbase.client.core.env.LoggingMeterConfig$Builder",
+                    "com.couchbase.client.core.env.TimerConfig$Builder",
+                    "com.couchbase.client.core.env.IoConfig$Builder",
+                    "com.couchbase.client.core.env.LoggerConfig$Builder",
+                    "com.couchbase.client.core.endpoint.CircuitBreakerConfig$Builder",
+                    "com.couchbase.client.core.service.AnalyticsServiceConfig$Builder",
+                    "com.couchbase.client.core.service.ViewServiceConfig$Builder",
+                    "com.couchbase.client.core.service.KeyValueServiceConfig$Builder",
+                    "com.couchbase.client.core.service.SearchServiceConfig$Builder",
+                    "com.couchbase.client.core.service.QueryServiceConfig$Builder",
+                    "com.couchbase.client.core.service.AbstractPooledEndpointServiceConfig$Builder",
+                    "com.couchbase.client.core.env.CoreEnvironment$Builder",
+                    "com.couchbase.client.java.env.ClusterEnvironment$Builder")),
+
+    TRANSACTIONS(
+            List.of(
+                    "com.couchbase.client.java.transactions.Transactions",
+                    "com.couchbase.client.java.transactions.TransactionAttemptContext",
+                    "com.couchbase.client.java.transactions.ReactiveTransactionAttemptContext",
+                    "com.couchbase.client.java.transactions.TransactionResult"),
+            List.of(
+                    "com.couchbase.client.core.util.ReactorOps",
+                    "com.couchbase.client.core.transaction.components.ActiveTransactionRecordEntry",
+                    "com.couchbase.client.core.transaction.components.DocRecord")),
+
+    BUCKET_MANAGEMENT(
+            List.of(
+                    "com.couchbase.client.java.manager.bucket.BucketManager",
+                    "com.couchbase.client.java.manager.bucket.AsyncBucketManager",
+                    "com.couchbase.client.java.manager.bucket.ReactiveBucketManager",
+                    "com.couchbase.client.java.manager.bucket.BucketSettings"),
+            List.of(
+                    "com.couchbase.client.core.manager.bucket.CoreCompressionMode",
+                    "com.couchbase.client.core.manager.bucket.CoreEvictionPolicyType",
+                    "com.couchbase.client.core.manager.bucket.CoreStorageBackend",
+                    "com.couchbase.client.core.manager.bucket.CoreConflictResolutionType",
+                    "com.couchbase.client.core.manager.bucket.BucketSettings",
+                    "com.couchbase.client.java.manager.bucket.BucketSettings",
+                    "com.couchbase.client.core.manager.bucket.CoreBucketSettings",
+                    "com.couchbase.client.core.classic.manager.CoreBucketSettingsJson")),
+
+    SEARCH_INDEX_MANAGEMENT(
+            List.of(
+                    "com.couchbase.client.java.manager.search.SearchIndexManager",
+                    "com.couchbase.client.java.manager.search.AsyncSearchIndexManager",
+                    "com.couchbase.client.java.manager.search.ReactiveSearchIndexManager",
+                    "com.couchbase.client.java.manager.search.ScopeSearchIndexManager",
+                    "com.couchbase.client.java.manager.search.SearchIndex"),
+            List.of(
+                    "com.couchbase.client.core.api.manager.search.CoreSearchIndex",
+                    "com.couchbase.client.java.manager.search.SearchIndex")),
+
+    SEARCH(
+            List.of(
+                    "com.couchbase.client.java.search.SearchQuery",
+                    "com.couchbase.client.java.search.SearchRequest",
+                    "com.couchbase.client.java.search.SearchOptions",
+                    "com.couchbase.client.java.search.result.SearchResult",
+                    "com.couchbase.client.java.search.result.ReactiveSearchResult",
+                    "com.couchbase.client.java.search.vector.VectorSearch",
+                    "com.couchbase.client.java.search.vector.VectorQuery"),
+            List.of(
+                    //Result
+                    "com.couchbase.client.core.api.search.result.CoreAbstractSearchFacetResult",
+                    "com.couchbase.client.core.api.search.result.CoreDateRangeSearchFacetResult",
+                    "com.couchbase.client.core.api.search.result.CoreNumericRangeSearchFacetResult",
+                    "com.couchbase.client.core.api.search.result.CoreReactiveSearchResult",
+                    "com.couchbase.client.core.api.search.result.CoreSearchDateRange",
+                    "com.couchbase.client.core.api.search.result.CoreSearchFacetResult",
+                    "com.couchbase.client.core.api.search.result.CoreSearchMetrics",
+                    "com.couchbase.client.core.api.search.result.CoreSearchNumericRange",
+                    "com.couchbase.client.core.api.search.result.CoreSearchResult",
+                    "com.couchbase.client.core.api.search.result.CoreSearchRow",
+                    "com.couchbase.client.core.api.search.result.CoreSearchRowLocation",
+                    "com.couchbase.client.core.api.search.result.CoreSearchRowLocations",
+                    "com.couchbase.client.core.api.search.result.CoreSearchStatus",
+                    "com.couchbase.client.core.api.search.result.CoreSearchTermRange",
+                    "com.couchbase.client.core.api.search.result.CoreTermSearchFacetResult",
+                    //Facet
+                    "com.couchbase.client.core.api.search.facet.CoreDateRange",
+                    "com.couchbase.client.core.api.search.facet.CoreDateRangeFacet",
+                    "com.couchbase.client.core.api.search.facet.CoreNumericRange",
+                    "com.couchbase.client.core.api.search.facet.CoreNumericRangeFacet",
+                    "com.couchbase.client.core.api.search.facet.CoreSearchFacet",
+                    "com.couchbase.client.core.api.search.facet.CoreTermFacet")),
+
+    VECTOR_SEARCH(
+            List.of(
+                    "com.couchbase.client.java.search.vector.VectorSearch",
+                    "com.couchbase.client.java.search.vector.VectorQuery"),
+            List.of(
+                    "com.couchbase.client.core.api.search.vector.CoreVector",
+                    "com.couchbase.client.core.api.search.vector.CoreVectorQuery",
+                    "com.couchbase.client.core.api.search.vector.CoreVectorQueryCombination",
+                    "com.couchbase.client.core.api.search.vector.CoreVectorSearch",
+                    "com.couchbase.client.core.api.search.vector.CoreVectorSearchOptions"));
+
+    /**
+     * References from the extension itself do not count, e.g. {@code MutinyCluster.search} only means search is used
+     * if an application class builds a {@code SearchRequest}. Only the extension's own packages are listed, so
+     * applications in a package below {@code com.couchbase.quarkus.extension} still count.
+     */
+    private static final List<String> EXTENSION_PACKAGES = List.of(
+            "com.couchbase.quarkus.extension.runtime.",
+            "com.couchbase.quarkus.extension.deployment.");
+
+    private final List<DotName> markers;
+    private final List<String> reflectiveClasses;
+
+    SdkFeature(List<String> markers, List<String> reflectiveClasses) {
+        this.markers = markers.stream().map(DotName::createSimple).toList();
+        this.reflectiveClasses = reflectiveClasses;
+    }
+
+    String[] reflectiveClasses() {
+        return reflectiveClasses.toArray(String[]::new);
+    }
+
+    /**
+     * @return whether a class outside the extension references one of the feature's marker types.
+     */
+    boolean isUsed(IndexView index) {
+        return markers.isEmpty() || isAnyUsed(index, markers);
+    }
+
+    static boolean isAnyUsed(IndexView index, List<DotName> types) {
+        for (DotName type : types) {
+            for (ClassInfo user : index.getKnownUsers(type)) {
+                String name = user.name().toString();
+                if (EXTENSION_PACKAGES.stream().noneMatch(name::startsWith)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
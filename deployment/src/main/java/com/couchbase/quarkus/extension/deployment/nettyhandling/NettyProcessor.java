@@ -25,6 +25,8 @@ import com.couchbase.client.core.deps.io.netty.channel.EventLoopGroup;
 import com.couchbase.client.core.deps.io.netty.util.internal.PlatformDependent;
 import com.couchbase.client.core.deps.io.netty.util.internal.logging.InternalLogger;
 import com.couchbase.client.core.deps.io.netty.util.internal.logging.InternalLoggerFactory;
+import com.couchbase.quarkus.extension.runtime.CouchbaseBuildTimeConfig;
+import com.couchbase.quarkus.extension.runtime.CouchbaseBuildTimeConfig.IoTransport;
 import com.couchbase.quarkus.extension.runtime.nettyhandling.BossEventLoopGroup;
 import com.couchbase.quarkus.extension.runtime.nettyhandling.MainEventLoopGroup;
 import com.couchbase.quarkus.extension.runtime.nettyhandling.runtime.EmptyByteBufStub;
@@ -46,6 +48,7 @@ import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
 import io.quarkus.deployment.builditem.ModuleEnableNativeAccessBuildItem;
 import io.quarkus.deployment.builditem.ModuleOpenBuildItem;
 import io.quarkus.deployment.builditem.SystemPropertyBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.JniRuntimeAccessBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageConfigBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageSystemPropertyBuildItem;
@@ -392,6 +395,7 @@ class NettyProcessor {
     @Record(ExecutionTime.RUNTIME_INIT)
     void registerEventLoopBeans(BuildProducer<SyntheticBeanBuildItem> syntheticBeans,
             Optional<EventLoopSupplierBuildItem> loopSupplierBuildItem,
+            CouchbaseBuildTimeConfig couchbaseConfig,
             NettyRecorder recorder,
             BuildProducer<EventLoopGroupBuildItem> eventLoopGroups) {
         Supplier<EventLoopGroup> boss;
@@ -400,8 +404,8 @@ class NettyProcessor {
             boss = (Supplier) loopSupplierBuildItem.get().getBossSupplier();
             main = (Supplier) loopSupplierBuildItem.get().getMainSupplier();
         } else {
-            boss = recorder.createEventLoop(1);
-            main = recorder.createEventLoop(0);
+            boss = recorder.createEventLoop(1, couchbaseConfig.ioTransport());
+            main = recorder.createEventLoop(0, couchbaseConfig.ioTransport());
         }
 
         // IMPLEMENTATION NOTE:
@@ -981,6 +985,47 @@ class NettyProcessor {
         }
     }
 
+    @BuildStep
+    void registerNativeTransport(CouchbaseBuildTimeConfig couchbaseConfig,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
+            BuildProducer<JniRuntimeAccessBuildItem> jniRuntimeAccess,
+            BuildProducer<NativeImageResourceBuildItem> resources) {
+        if (couchbaseConfig.ioTransport().filter(transport -> transport != IoTransport.NIO).isEmpty()) {
+            return;
+        }
+        if (!QuarkusClassLoader.isClassPresentAtRuntime("com.couchbase.client.core.deps.io.netty.channel.epoll.EpollMode")) {
+            log.warn("quarkus.couchbase.io.transport requests a native transport but the shaded epoll classes were not found,"
+                    + " NIO will be used");
+            return;
+        }
+
+        // Channels are instantiated through Netty's ReflectiveChannelFactory
+        reflectiveClass.produce(ReflectiveClassBuildItem.builder(
+                "com.couchbase.client.core.deps.io.netty.channel.epoll.EpollSocketChannel",
+                "com.couchbase.client.core.deps.io.netty.channel.epoll.EpollServerSocketChannel",
+                "com.couchbase.client.core.deps.io.netty.channel.epoll.EpollDatagramChannel")
+                .build());
+
+        // Looked up by JNI_OnLoad and the native methods of the epoll library
+        jniRuntimeAccess.produce(new JniRuntimeAccessBuildItem(true, true, true,
+                "com.couchbase.client.core.deps.io.netty.channel.epoll.LinuxSocket",
+                "com.couchbase.client.core.deps.io.netty.channel.epoll.Native",
+                "com.couchbase.client.core.deps.io.netty.channel.epoll.NativeStaticallyReferencedJniMethods",
+                "com.couchbase.client.core.deps.io.netty.channel.epoll.NativeDatagramPacketArray$NativeDatagramPacket",
+                "com.couchbase.client.core.deps.io.netty.channel.unix.DatagramSocketAddress",
+                "com.couchbase.client.core.deps.io.netty.channel.unix.DomainDatagramSocketAddress",
+                "com.couchbase.client.core.deps.io.netty.channel.unix.PeerCredentials",
+                "com.couchbase.client.core.deps.io.netty.channel.ChannelException",
+                "java.net.InetSocketAddress",
+                "java.net.PortUnreachableException",
+                "java.nio.channels.ClosedChannelException"));
+
+        // Loaded by NativeLibraryLoader from the shaded jar, the library name carries the shading prefix
+        resources.produce(new NativeImageResourceBuildItem(
+                "META-INF/native/libcom_couchbase_client_core_deps_netty_transport_native_epoll_x86_64.so",
+                "META-INF/native/libcom_couchbase_client_core_deps_netty_transport_native_epoll_aarch_64.so"));
+    }
+
     @BuildStep
     void indexTransports(BuildProducer<IndexDependencyBuildItem> producer) {
         producer.produce(new IndexDependencyBuildItem("com.couchbase.client.core.deps.io.netty", "netty-transport"));
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cache.CacheResult;
+
+class CacheValueClassesTest {
+
+    @Test
+    void collectsReturnTypesWithTheirTypeArgumentsSuperclassesAndFields() throws IOException {
+        Index index = Index.of(Catalog.class, Quote.class, BaseQuote.class, Money.class, Offer.class, Discount.class,
+                Unrelated.class);
+
+        Set<String> classes = CouchbaseProcessor.cacheValueClasses(index);
+
+        assertEquals(Set.of(Quote.class.getName(), BaseQuote.class.getName(), Money.class.getName(),
+                Offer.class.getName(), Discount.class.getName()), classes);
+    }
+
+    static class Catalog {
+
+        @CacheResult(cacheName = "quotes")
+        Quote quote(String id) {
+            return null;
+        }
+
+        @CacheResult(cacheName = "offers")
+        List<Offer> offers() {
+            return null;
+        }
+
+        @CacheResult(cacheName = "discounts")
+        Map<String, ? extends Discount[]> discounts() {
+            return null;
+        }
+
+        Unrelated notCached() {
+            return null;
+        }
+    }
+
+    static class BaseQuote implements Serializable {
+        Instant at;
+    }
+
+    static class Quote extends BaseQuote {
+        static Unrelated constant;
+        Money price;
+        transient Unrelated derived;
+    }
+
+    static class Money implements Serializable {
+        String currency;
+    }
+
+    static class Offer implements Serializable {
+    }
+
+    static class Discount implements Serializable {
+    }
+
+    static class Unrelated {
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.test;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.runtime.BlockingOperationControl;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Verifies that the body of a blocking {@code @CacheResult} method called from a worker thread runs on a thread that
+ * may block. The worker thread has a duplicated Vert.x context, so the Couchbase lookup completes on its event loop.
+ * The connection string points to a host that does not resolve, so every lookup times out and is handled as a miss.
+ */
+public class CacheLoaderThreadTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(Prices.class))
+            .overrideConfigKey("quarkus.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.couchbase.connection-string", "couchbase://couchbase.invalid")
+            .overrideConfigKey("quarkus.couchbase.username", "test")
+            .overrideConfigKey("quarkus.couchbase.password", "test")
+            .overrideConfigKey("quarkus.couchbase.bucket-name", "cache")
+            .overrideConfigKey("quarkus.couchbase.timeout.kv", "200ms")
+            .overrideConfigKey("quarkus.cache.type", "couchbase");
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    Prices prices;
+
+    @Test
+    void blockingValueLoaderCalledFromAWorkerThreadRunsOnAWorkerThread() throws Exception {
+        Context context = VertxContext.getOrCreateDuplicatedContext(vertx);
+
+        String price = context.executeBlocking(() -> prices.price(1))
+                .toCompletionStage().toCompletableFuture().get(10, SECONDS);
+
+        assertEquals("price-1", price);
+        assertFalse(prices.onEventLoop, "The value loader ran on an event loop");
+        assertTrue(prices.blockingAllowed, "The value loader ran on a thread that must not block");
+    }
+
+    @ApplicationScoped
+    public static class Prices {
+
+        volatile boolean onEventLoop;
+        volatile boolean blockingAllowed;
+
+        @CacheResult(cacheName = "prices")
+        public String price(int id) {
+            onEventLoop = Context.isOnEventLoopThread();
+            blockingAllowed = BlockingOperationControl.isBlockingAllowed();
+            return "price-" + id;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.couchbase.client.java.Collection;
+import com.couchbase.quarkus.extension.runtime.CouchbaseCollection;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Verifies that a {@code @CouchbaseCollection} without a bucket fails the application start when the client has no
+ * {@code bucket-name}, since collection beans are resolved on startup. The name is checked before any connection, so
+ * no Couchbase server is needed.
+ */
+public class CollectionBeanWithoutBucketTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .overrideConfigKey("quarkus.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.couchbase.username", "test")
+            .overrideConfigKey("quarkus.couchbase.password", "test")
+            .assertException(exception -> {
+                boolean hasClearMessage = false;
+                for (Throwable t = exception; t != null; t = t.getCause()) {
+                    if (t.getMessage() != null
+                            && t.getMessage().contains("quarkus.couchbase.bucket-name is required to inject a Collection")) {
+                        hasClearMessage = true;
+                        break;
+                    }
+                }
+                assertTrue(hasClearMessage, "Expected a clear bucket-name error, but got: " + exception);
+            });
+
+    @Inject
+    @CouchbaseCollection(scope = "inventory", collection = "hotel")
+    Collection collection;
+
+    @Test
+    void collectionWithoutBucketFailsStartup() {
+        fail("Startup should have failed");
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Verifies that an invalid SDK environment setting fails the application start, before any client is used, with the
+ * name of the property. No Couchbase server is needed since the cluster is never connected.
+ */
+public class EnvironmentValidationTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .overrideConfigKey("quarkus.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.couchbase.timeout.kv", "-1s")
+            .assertException(exception -> {
+                boolean hasClearMessage = false;
+                for (Throwable t = exception; t != null; t = t.getCause()) {
+                    if (t.getMessage() != null && t.getMessage().contains("quarkus.couchbase.timeout.kv must be positive")) {
+                        hasClearMessage = true;
+                        break;
+                    }
+                }
+                assertTrue(hasClearMessage, "Expected a clear timeout.kv error, but got: " + exception);
+            });
+
+    @Test
+    void invalidSettingFailsStartup() {
+        fail("Startup should have failed");
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.couchbase.client.core.error.DecodingFailureException;
+import com.couchbase.client.java.codec.JsonSerializer;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.kv.GetResult;
+import com.couchbase.quarkus.extension.runtime.codec.CodecJsonSerializer;
+import com.couchbase.quarkus.extension.runtime.codec.JsonCodecRecorder;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Verifies the JSON codecs generated for the DTOs an application decodes with {@code contentAs}, and that other types
+ * keep using the SDK's serializer. No Couchbase server is needed: the serializer is exercised directly.
+ */
+public class GeneratedJsonCodecTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Order.class, Line.class, Point.class, OrderReader.class))
+            .overrideConfigKey("quarkus.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.couchbase.json.generated-codecs", "true");
+
+    @Test
+    void accessorsAreGenerated() throws Exception {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        assertNotNull(Class.forName(Order.class.getName() + "$$CouchbaseJsonAccessor", false, classLoader));
+        assertNotNull(Class.forName(Line.class.getName() + "$$CouchbaseJsonAccessor", false, classLoader));
+    }
+
+    @Test
+    void roundTripsDtoWithNestedDtos() {
+        JsonSerializer serializer = serializer();
+        Order order = new Order();
+        order.id = "o-1";
+        order.setTotal(42);
+        order.setPaid(true);
+        order.setLines(List.of(line("apple", 2), line("pear", 1)));
+        order.setShipping(line("courier", 1));
+
+        String json = new String(serializer.serialize(order), UTF_8);
+        assertEquals(JsonObject.fromJson("{\"id\":\"o-1\",\"total\":42,\"paid\":true,"
+                + "\"lines\":[{\"sku\":\"apple\",\"quantity\":2},{\"sku\":\"pear\",\"quantity\":1}],"
+                + "\"shipping\":{\"sku\":\"courier\",\"quantity\":1}}"), JsonObject.fromJson(json));
+
+        Order decoded = serializer.deserialize(Order.class, json.getBytes(UTF_8));
+        assertEquals("o-1", decoded.id);
+        assertEquals(42, decoded.getTotal());
+        assertEquals(true, decoded.isPaid());
+        assertEquals(2, decoded.getLines().size());
+        assertEquals("pear", decoded.getLines().get(1).getSku());
+        assertEquals(1, decoded.getShipping().getQuantity());
+    }
+
+    @Test
+    void readsNullsAndMissingProperties() {
+        Order decoded = serializer().deserialize(Order.class,
+                "{\"id\":null,\"total\":null,\"shipping\":null}".getBytes(UTF_8));
+        assertNull(decoded.id);
+        assertEquals(0, decoded.getTotal());
+        assertNull(decoded.getLines());
+        assertNull(decoded.getShipping());
+    }
+
+    @Test
+    void failsOnUnknownProperties() {
+        assertThrows(DecodingFailureException.class,
+                () -> serializer().deserialize(Line.class, "{\"sku\":\"apple\",\"colour\":\"red\"}".getBytes(UTF_8)));
+    }
+
+    @Test
+    void failsOnObjectsAndArraysForScalarProperties() {
+        JsonSerializer serializer = serializer();
+        // Reading the nested object's fields as the outer object's would decode sku as "x" and drop quantity.
+        assertThrows(DecodingFailureException.class, () -> serializer.deserialize(Line.class,
+                "{\"sku\":{\"sku\":\"x\"},\"quantity\":1}".getBytes(UTF_8)));
+        assertThrows(DecodingFailureException.class, () -> serializer.deserialize(Line.class,
+                "{\"sku\":[\"x\"],\"quantity\":1}".getBytes(UTF_8)));
+        assertThrows(DecodingFailureException.class, () -> serializer.deserialize(Order.class,
+                "{\"id\":\"o-1\",\"total\":{\"amount\":1}}".getBytes(UTF_8)));
+        assertThrows(DecodingFailureException.class, () -> serializer.deserialize(Order.class,
+                "{\"lines\":[{\"sku\":\"apple\",\"quantity\":[1]}]}".getBytes(UTF_8)));
+    }
+
+    @Test
+    void otherTypesUseTheSdkSerializer() {
+        JsonSerializer serializer = serializer();
+        assertEquals(JsonObject.create().put("x", 1).put("y", 2),
+                JsonObject.fromJson(new String(serializer.serialize(new Point(1, 2)), UTF_8)));
+        assertEquals(new Point(3, 4), serializer.deserialize(Point.class, "{\"x\":3,\"y\":4}".getBytes(UTF_8)));
+    }
+
+    private static JsonSerializer serializer() {
+        JsonSerializer serializer = JsonCodecRecorder.serializer().orElseThrow();
+        assertInstanceOf(CodecJsonSerializer.class, serializer);
+        return serializer;
+    }
+
+    private static Line line(String sku, int quantity) {
+        Line line = new Line();
+        line.setSku(sku);
+        line.setQuantity(quantity);
+        return line;
+    }
+
+    /**
+     * Decodes the DTOs with class literals, which is how the build step finds them.
+     */
+    public static class OrderReader {
+
+        public Order order(GetResult result) {
+            return result.contentAs(Order.class);
+        }
+
+        public Point point(GetResult result) {
+            return result.contentAs(Point.class);
+        }
+    }
+
+    public static class Order {
+
+        public String id;
+        private int total;
+        private boolean paid;
+        private List<Line> lines;
+        private Line shipping;
+
+        public int getTotal() {
+            return total;
+        }
+
+        public void setTotal(int total) {
+            this.total = total;
+        }
+
+        public boolean isPaid() {
+            return paid;
+        }
+
+        public void setPaid(boolean paid) {
+            this.paid = paid;
+        }
+
+        public List<Line> getLines() {
+            return lines;
+        }
+
+        public void setLines(List<Line> lines) {
+            this.lines = lines;
+        }
+
+        public Line getShipping() {
+            return shipping;
+        }
+
+        public void setShipping(Line shipping) {
+            this.shipping = shipping;
+        }
+    }
+
+    public static class Line {
+
+        private String sku;
+        private Integer quantity;
+
+        public String getSku() {
+            return sku;
+        }
+
+        public void setSku(String sku) {
+            this.sku = sku;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(Integer quantity) {
+            this.quantity = quantity;
+        }
+    }
+
+    /**
+     * Records are left to the SDK's serializer.
+     */
+    public record Point(int x, int y) {
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.Scope;
+import com.couchbase.quarkus.extension.runtime.CouchbaseCollection;
+import com.couchbase.quarkus.extension.runtime.CouchbaseScope;
+import com.couchbase.quarkus.extension.runtime.kv.BlockingCollection;
+import com.couchbase.quarkus.extension.runtime.mutiny.MutinyCollection;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Verifies that {@code @CouchbaseCollection} and {@code @CouchbaseScope} injection points get beans for the keyspace
+ * they name. Opening a bucket, scope or collection handle does not wait for the cluster, so the connection string
+ * points to a host that does not resolve and no Couchbase server is needed.
+ */
+public class KeyspaceBeanConfigTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .overrideConfigKey("quarkus.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.couchbase.connection-string", "couchbase://couchbase.invalid")
+            .overrideConfigKey("quarkus.couchbase.username", "test")
+            .overrideConfigKey("quarkus.couchbase.password", "test");
+
+    @Inject
+    @CouchbaseCollection(bucket = "travel-sample", scope = "inventory", collection = "hotel")
+    Collection collection;
+
+    @Inject
+    @CouchbaseCollection(bucket = "travel-sample", scope = "inventory", collection = "hotel")
+    MutinyCollection mutinyCollection;
+
+    @Inject
+    @CouchbaseCollection(bucket = "travel-sample", scope = "inventory", collection = "hotel")
+    BlockingCollection blockingCollection;
+
+    @Inject
+    @CouchbaseCollection(bucket = "travel-sample")
+    Collection defaultCollection;
+
+    @Inject
+    @CouchbaseScope(bucket = "travel-sample", scope = "inventory")
+    Scope scope;
+
+    @Inject
+    @CouchbaseScope(scope = "inventory")
+    Instance<Scope> scopeWithoutBucket;
+
+    @Test
+    void collectionBeansOpenTheQualifiedCollection() {
+        assertKeyspace("travel-sample", "inventory", "hotel", collection);
+        assertKeyspace("travel-sample", "inventory", "hotel", mutinyCollection.blocking());
+        assertEquals("hotel", mutinyCollection.name());
+        assertKeyspace("travel-sample", "inventory", "hotel", blockingCollection.collection());
+    }
+
+    @Test
+    void unsetMembersDefaultToTheDefaultScopeAndCollection() {
+        assertKeyspace("travel-sample", "_default", "_default", defaultCollection);
+    }
+
+    @Test
+    void scopeBeanOpensTheQualifiedScope() {
+        assertEquals("travel-sample", scope.bucketName());
+        assertEquals("inventory", scope.name());
+    }
+
+    @Test
+    void scopeWithoutBucketFailsWithClearMessage() {
+        // The client has no bucket-name to fall back to.
+        var exception = assertThrows(RuntimeException.class, () -> scopeWithoutBucket.get().name());
+
+        boolean hasClearMessage = false;
+        for (Throwable t = exception; t != null; t = t.getCause()) {
+            if (t.getMessage() != null
+                    && t.getMessage().contains("quarkus.couchbase.bucket-name is required to inject a Scope")) {
+                hasClearMessage = true;
+                break;
+            }
+        }
+        assertTrue(hasClearMessage, "Expected a clear bucket-name error, but got: " + exception);
+    }
+
+    private static void assertKeyspace(String bucket, String scope, String name, Collection collection) {
+        assertEquals(bucket, collection.bucketName());
+        assertEquals(scope, collection.scopeName());
+        assertEquals(name, collection.name());
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.couchbase.client.java.Bucket;
+import com.couchbase.quarkus.extension.runtime.CouchbaseClient;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Verifies that a named client listed in {@code quarkus.couchbase.client-names} gets its beans without any
+ * {@code @CouchbaseClient} injection point, and that they read the client's own settings. The beans are looked up
+ * programmatically so the index holds no qualifier naming the client. As in {@link BucketBeanConfigTest}, the missing
+ * bucket name fails before any connection, so no Couchbase server is needed.
+ */
+public class NamedClientConfigTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .overrideConfigKey("quarkus.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.couchbase.client-names", "orders")
+            .overrideConfigKey("quarkus.couchbase.\"orders\".connection-string", "couchbase://orders.invalid")
+            .overrideConfigKey("quarkus.couchbase.\"orders\".username", "test")
+            .overrideConfigKey("quarkus.couchbase.\"orders\".password", "test");
+
+    @Test
+    void listedClientHasBeans() {
+        var bucket = Arc.container().select(Bucket.class, new CouchbaseClient.Literal("orders"));
+        assertTrue(bucket.isResolvable(), "Expected a Bucket bean for the orders client");
+
+        var exception = assertThrows(RuntimeException.class, () -> bucket.get().name());
+        boolean namesClient = false;
+        for (Throwable t = exception; t != null; t = t.getCause()) {
+            if (t.getMessage() != null && t.getMessage().contains("quarkus.couchbase.\"orders\".bucket-name is required")) {
+                namesClient = true;
+                break;
+            }
+        }
+        assertTrue(namesClient, "Expected the orders client's bucket-name error, but got: " + exception);
+    }
+
+    @Test
+    void unlistedClientHasNoBeans() {
+        assertFalse(Arc.container().select(Bucket.class, new CouchbaseClient.Literal("billing")).isResolvable());
+    }
+}
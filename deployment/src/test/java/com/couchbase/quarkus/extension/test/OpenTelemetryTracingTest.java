@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Arrays;
+import java.util.List;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.couchbase.client.core.error.CouchbaseException;
+import com.couchbase.client.java.Collection;
+import com.couchbase.quarkus.extension.runtime.CouchbaseRecorder;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.IdGenerator;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Verifies that SDK operations are traced with OpenTelemetry following the Quarkus sampler, which here samples the
+ * children of sampled parents and drops every root span. The connection string points to a host that does not resolve,
+ * so every operation times out, after its span was created.
+ */
+public class OpenTelemetryTracingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(InMemorySpanExporterProducer.class))
+            .overrideConfigKey("quarkus.devservices.enabled", "false")
+            .overrideConfigKey("quarkus.couchbase.connection-string", "couchbase://couchbase.invalid")
+            .overrideConfigKey("quarkus.couchbase.username", "test")
+            .overrideConfigKey("quarkus.couchbase.password", "test")
+            .overrideConfigKey("quarkus.couchbase.bucket-name", "traces")
+            .overrideConfigKey("quarkus.couchbase.timeout.kv", "200ms")
+            .overrideConfigKey("quarkus.couchbase.threshold-tracer.kv-threshold", "1s")
+            .overrideConfigKey("quarkus.otel.traces.sampler", "parentbased_traceidratio")
+            .overrideConfigKey("quarkus.otel.traces.sampler.arg", "0")
+            .overrideConfigKey("quarkus.otel.bsp.schedule.delay", "50ms")
+            .setLogRecordPredicate(record -> CouchbaseRecorder.class.getName().equals(record.getLoggerName()))
+            .assertLogRecords(records -> assertTrue(records.stream().anyMatch(record -> record.getMessage()
+                    .contains("threshold-tracer.* is set")
+                    && Arrays.asList(record.getParameters()).contains("quarkus.couchbase.tracing.enabled")),
+                    "No warning that the threshold-tracer settings are ignored"));
+
+    @Inject
+    Collection collection;
+
+    @Inject
+    InMemorySpanExporter exporter;
+
+    @BeforeEach
+    void reset() {
+        exporter.reset();
+    }
+
+    @Test
+    void operationsOfSampledRequestsAreChildrenOfTheirSpan() {
+        SpanContext parent = parent(TraceFlags.getSampled());
+
+        get(parent);
+
+        SpanData span = awaitSpan(parent);
+        assertEquals(SpanKind.CLIENT, span.getKind());
+    }
+
+    @Test
+    void operationsOfUnsampledRequestsAreNotTraced() {
+        get(parent(TraceFlags.getDefault()));
+
+        assertOnlySpansOfANextSampledRequest();
+    }
+
+    @Test
+    void operationsWithoutParentAreNotTracedWhenTheSamplerDropsRootSpans() {
+        get(null);
+
+        assertOnlySpansOfANextSampledRequest();
+    }
+
+    /**
+     * Spans are exported in the order they end, so once the span of a later sampled request is exported, the spans
+     * of earlier operations would have been too.
+     */
+    private void assertOnlySpansOfANextSampledRequest() {
+        SpanContext sampled = parent(TraceFlags.getSampled());
+        get(sampled);
+        awaitSpan(sampled);
+
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        assertTrue(spans.stream().allMatch(span -> span.getTraceId().equals(sampled.getTraceId())), spans::toString);
+    }
+
+    private void get(SpanContext parent) {
+        Context context = parent == null ? Context.root() : Context.root().with(Span.wrap(parent));
+        try (Scope ignored = context.makeCurrent()) {
+            assertThrows(CouchbaseException.class, () -> collection.get("missing"));
+        }
+    }
+
+    private SpanData awaitSpan(SpanContext parent) {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (System.nanoTime() < deadline) {
+            for (SpanData span : exporter.getFinishedSpanItems()) {
+                if (span.getTraceId().equals(parent.getTraceId()) && span.getParentSpanId().equals(parent.getSpanId())) {
+                    return span;
+                }
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return fail("No child span of " + parent.getSpanId() + " was exported");
+    }
+
+    private static SpanContext parent(TraceFlags flags) {
+        IdGenerator ids = IdGenerator.random();
+        return SpanContext.createFromRemoteParent(ids.generateTraceId(), ids.generateSpanId(), flags,
+                TraceState.getDefault());
+    }
+
+    @ApplicationScoped
+    public static class InMemorySpanExporterProducer {
+
+        @Produces
+        @Singleton
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import io.quarkus.builder.BuildChainBuilder;
+import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+
+/**
+ * A build step checking which SDK classes are registered for reflection. The check runs in the build, where the
+ * {@link ReflectiveClassBuildItem}s are visible, and fails it if the expectations do not hold.
+ */
+final class ReflectiveClassesAssertion {
+
+    static final String TRANSACTIONS = "com.couchbase.client.core.transaction.components.ActiveTransactionRecordEntry";
+    static final String SEARCH = "com.couchbase.client.core.api.search.result.CoreSearchRow";
+    static final String CORE = "com.couchbase.client.core.config.CollectionsManifest";
+
+    private ReflectiveClassesAssertion() {
+    }
+
+    static Consumer<BuildChainBuilder> expect(List<String> registered, List<String> notRegistered) {
+        return builder -> builder.addBuildStep(context -> {
+            Set<String> classes = new HashSet<>();
+            for (ReflectiveClassBuildItem item : context.consumeMulti(ReflectiveClassBuildItem.class)) {
+                classes.addAll(item.getClassNames());
+            }
+            for (String name : registered) {
+                if (!classes.contains(name)) {
+                    throw new AssertionError(name + " is not registered for reflection");
+                }
+            }
+            for (String name : notRegistered) {
+                if (classes.contains(name)) {
+                    throw new AssertionError(name + " is registered for reflection");
+                }
+            }
+            context.produce(new FeatureBuildItem("reflective-classes-assertion"));
+        }).consumes(ReflectiveClassBuildItem.class).produces(FeatureBuildItem.class).build();
+    }
+}
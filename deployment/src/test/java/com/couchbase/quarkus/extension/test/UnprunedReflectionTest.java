@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.test;
+
+import static com.couchbase.quarkus.extension.test.ReflectiveClassesAssertion.CORE;
+import static com.couchbase.quarkus.extension.test.ReflectiveClassesAssertion.SEARCH;
+import static com.couchbase.quarkus.extension.test.ReflectiveClassesAssertion.TRANSACTIONS;
+
+import java.util.List;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Verifies that by default the metadata of every SDK feature is registered, even if no application class references
+ * it.
+ */
+public class UnprunedReflectionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class))
+            .overrideConfigKey("quarkus.devservices.enabled", "false")
+            .addBuildChainCustomizer(ReflectiveClassesAssertion.expect(List.of(CORE, TRANSACTIONS, SEARCH), List.of()));
+
+    @Test
+    void registersEveryFeature() {
+        // The build fails if the registered classes do not match.
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.it;
+
+import static com.couchbase.client.java.kv.GetOptions.getOptions;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+
+import com.couchbase.client.java.Bucket;
+import com.couchbase.quarkus.extension.runtime.kv.BlockingCollection;
+
+import io.smallrye.common.annotation.Blocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+
+/**
+ * The same blocking read, once on a virtual thread through {@link BlockingCollection} and once on the worker pool
+ * through the SDK's blocking API, for {@code VirtualThreadBenchmarkTest} and {@code BlockingEndpointsConcurrencyTest}.
+ * The virtual thread read passes options so it is not answered by a near cache and both endpoints do the same work.
+ * The comparison is only meaningful on Java 21 or later; before that {@code @RunOnVirtualThread} runs the method on a
+ * worker thread.
+ */
+@Path("/benchmark")
+@ApplicationScoped
+public class BlockingBenchmarkResource {
+
+    @Inject
+    BlockingCollection collection;
+
+    @Inject
+    Bucket bucket;
+
+    @GET
+    @Path("/virtual/{id}")
+    @RunOnVirtualThread
+    public String virtual(@PathParam("id") String id) {
+        return collection.get(id, getOptions()).contentAs(String.class);
+    }
+
+    @GET
+    @Path("/worker/{id}")
+    @Blocking
+    public String worker(@PathParam("id") String id) {
+        return bucket.defaultCollection().get(id).contentAs(String.class);
+    }
+}
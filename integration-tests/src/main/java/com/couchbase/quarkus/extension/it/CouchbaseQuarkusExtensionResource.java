@@ -20,9 +20,21 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.jboss.resteasy.reactive.RestMediaType;
+import org.jboss.resteasy.reactive.RestStreamElementType;
 
 import com.couchbase.client.java.Bucket;
 import com.couchbase.client.java.Cluster;
+import com.couchbase.quarkus.extension.runtime.mutiny.MutinyCollection;
+import com.couchbase.quarkus.extension.runtime.mutiny.MutinyCluster;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
 
 @Path("/couchbase-quarkus-extension")
 @ApplicationScoped
@@ -33,6 +45,12 @@ public class CouchbaseQuarkusExtensionResource {
     @Inject
     Bucket bucket;
 
+    @Inject
+    MutinyCluster mutinyCluster;
+
+    @Inject
+    MutinyCollection mutinyCollection;
+
     @GET
     @Path("/clusterCheck")
     public String clusterCheck() {
@@ -40,6 +58,28 @@ public class CouchbaseQuarkusExtensionResource {
         return query.rowsAsObject().get(0).toString();
     }
 
+    @GET
+    @Path("/queryStream")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Multi<Buffer> queryStream() {
+        return mutinyCluster.queryRawRows("select 1 as test");
+    }
+
+    @GET
+    @Path("/queryStreamNdjson")
+    @Produces(RestMediaType.APPLICATION_NDJSON)
+    @RestStreamElementType(MediaType.APPLICATION_JSON)
+    public Multi<Buffer> queryStreamNdjson() {
+        return mutinyCluster.queryRawRows("select 1 as test");
+    }
+
+    @GET
+    @Path("/raw/{id}")
+    @Produces(MediaType.APPLICATION_OCTET_STREAM)
+    public Uni<Buffer> raw(@PathParam("id") String id) {
+        return mutinyCollection.getRaw(id);
+    }
+
     @GET
     @Path("/pingReport")
     public String clusterPing() {
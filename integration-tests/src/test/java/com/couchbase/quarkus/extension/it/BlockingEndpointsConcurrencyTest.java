@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.it;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+
+import com.couchbase.client.java.Bucket;
+
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+
+/**
+ * Checks that the blocking reads of {@link BlockingBenchmarkResource} return the requested document when many run
+ * concurrently, more than the worker pool has threads, so each request is answered with its own result.
+ */
+@QuarkusTest
+public class BlockingEndpointsConcurrencyTest {
+
+    private static final int DOCUMENTS = 50;
+    private static final int REQUESTS = 1_000;
+
+    @Inject
+    Bucket bucket;
+
+    @TestHTTPResource("/benchmark")
+    URL benchmark;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void virtualThreadReadsReturnTheRequestedDocument() {
+        assertConcurrentReads("virtual");
+    }
+
+    @Test
+    void workerPoolReadsReturnTheRequestedDocument() {
+        assertConcurrentReads("worker");
+    }
+
+    private void assertConcurrentReads(String mode) {
+        for (int i = 0; i < DOCUMENTS; i++) {
+            bucket.defaultCollection().upsert(id(i), "content-" + i);
+        }
+
+        List<CompletableFuture<Void>> reads = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            int document = i % DOCUMENTS;
+            URI uri = URI.create(benchmark + "/" + mode + "/" + id(document));
+            reads.add(client.sendAsync(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString())
+                    .thenAccept(response -> {
+                        assertEquals(200, response.statusCode(), uri::toString);
+                        assertEquals("content-" + document, response.body(), uri::toString);
+                    }));
+        }
+        CompletableFuture.allOf(reads.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private static String id(int document) {
+        return "concurrency-doc-" + document;
+    }
+}
@@ -15,16 +15,27 @@
  */
 package com.couchbase.quarkus.extension.it;
 
+import static com.couchbase.client.java.kv.UpsertOptions.upsertOptions;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import jakarta.inject.Inject;
 
 import org.junit.jupiter.api.Test;
 
+import com.couchbase.client.java.Bucket;
+import com.couchbase.client.java.codec.RawBinaryTranscoder;
+import com.couchbase.client.java.json.JsonObject;
+
 import io.quarkus.test.junit.QuarkusTest;
 
 @QuarkusTest
 public class CouchbaseQuarkusExtensionResourceTest {
 
+    @Inject
+    Bucket bucket;
+
     @Test
     public void testHelloEndpoint() {
         given()
@@ -33,4 +44,46 @@ public class CouchbaseQuarkusExtensionResourceTest {
                 .statusCode(200)
                 .body(is("Hello couchbase-quarkus-extension"));
     }
+
+    @Test
+    public void testQueryStreamEndpoint() {
+        given()
+                .when().get("/couchbase-quarkus-extension/queryStream")
+                .then()
+                .statusCode(200)
+                .body(is("[{\"test\":1}]"));
+    }
+
+    @Test
+    public void testQueryStreamNdjsonEndpoint() {
+        given()
+                .when().get("/couchbase-quarkus-extension/queryStreamNdjson")
+                .then()
+                .statusCode(200)
+                .body(is("{\"test\":1}\n"));
+    }
+
+    @Test
+    public void testRawEndpointReturnsJsonDocumentAsStored() {
+        bucket.defaultCollection().upsert("RawJsonDoc", JsonObject.create().put("test", 1));
+
+        given()
+                .when().get("/couchbase-quarkus-extension/raw/RawJsonDoc")
+                .then()
+                .statusCode(200)
+                .body(is("{\"test\":1}"));
+    }
+
+    @Test
+    public void testRawEndpointReturnsBinaryDocumentAsStored() {
+        byte[] content = { 0, 1, 2, (byte) 0xff };
+        bucket.defaultCollection().upsert("RawBinaryDoc", content, upsertOptions().transcoder(RawBinaryTranscoder.INSTANCE));
+
+        byte[] body = given()
+                .when().get("/couchbase-quarkus-extension/raw/RawBinaryDoc")
+                .then()
+                .statusCode(200)
+                .extract().asByteArray();
+        assertArrayEquals(content, body);
+    }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.it;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.inject.Inject;
+
+import org.jboss.logging.Logger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+
+import com.couchbase.client.java.Bucket;
+
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.test.junit.QuarkusTest;
+
+/**
+ * Compares the throughput of blocking reads on virtual threads with the same reads on the worker pool, with more
+ * concurrent requests than the worker pool has threads. Run with {@code -Dbenchmark=true}; the number of requests and
+ * the concurrency can be changed with {@code -Dbenchmark.requests} and {@code -Dbenchmark.concurrency}. Every
+ * response is checked, but the throughput is only logged; {@link BlockingEndpointsConcurrencyTest} checks the
+ * endpoints under concurrency in the regular build.
+ * <p>
+ * Only runs on Java 21 or later: on older JVMs {@code @RunOnVirtualThread} falls back to the worker pool, so both
+ * endpoints would measure the same thing.
+ */
+@QuarkusTest
+@EnabledForJreRange(min = JRE.JAVA_21)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class VirtualThreadBenchmarkTest {
+
+    private static final Logger LOG = Logger.getLogger(VirtualThreadBenchmarkTest.class);
+    private static final String DOC_ID = "benchmark-doc";
+    private static final String CONTENT = "benchmark";
+
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20_000);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 1_000);
+
+    @Inject
+    Bucket bucket;
+
+    @TestHTTPResource("/benchmark")
+    URL benchmark;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void virtualThreadsVersusWorkerPool() throws Exception {
+        bucket.defaultCollection().upsert(DOC_ID, CONTENT);
+
+        // Warm up both paths so neither pays for class loading or connection setup in the measurement.
+        run("worker", REQUESTS / 10);
+        run("virtual", REQUESTS / 10);
+
+        double worker = run("worker", REQUESTS);
+        double virtual = run("virtual", REQUESTS);
+        LOG.infof("%d requests, %d in flight. Worker pool: %.0f req/s, virtual threads: %.0f req/s (%.2fx)",
+                REQUESTS, CONCURRENCY, worker, virtual, virtual / worker);
+    }
+
+    private double run(String mode, int requests) throws Exception {
+        URI uri = URI.create(benchmark + "/" + mode + "/" + DOC_ID);
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> lanes = new ArrayList<>();
+        for (int lane = 0; lane < CONCURRENCY; lane++) {
+            int laneRequests = requests / CONCURRENCY + (lane < requests % CONCURRENCY ? 1 : 0);
+            lanes.add(lane(uri, laneRequests));
+        }
+        CompletableFuture.allOf(lanes.toArray(CompletableFuture[]::new)).join();
+        return requests / ((System.nanoTime() - start) / 1e9);
+    }
+
+    private CompletableFuture<Void> lane(URI uri, int remaining) {
+        if (remaining == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return client.sendAsync(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString())
+                .thenCompose(response -> {
+                    assertEquals(200, response.statusCode());
+                    assertEquals(CONTENT, response.body());
+                    return lane(uri, remaining - 1);
+                });
+    }
+}
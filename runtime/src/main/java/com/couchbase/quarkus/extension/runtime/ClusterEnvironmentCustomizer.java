@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime;
+
+import com.couchbase.client.java.env.ClusterEnvironment;
+
+/**
+ * Customizes the {@link ClusterEnvironment} of the clients, for settings that have no configuration property.
+ * <p>
+ * Implementations are CDI beans. They are called, highest {@code @Priority} first, after the environment has been
+ * configured from {@code application.properties}, so what they set wins. When
+ * {@code quarkus.couchbase.shared-environment} is enabled, they are called once, for the default client.
+ */
+public interface ClusterEnvironmentCustomizer {
+
+    /**
+     * @param clientName the name of the client, {@link CouchbaseClient#DEFAULT_CLIENT_NAME} for the default one.
+     */
+    void customize(String clientName, ClusterEnvironment.Builder builder);
+}
@@ -15,6 +15,7 @@
  */
 package com.couchbase.quarkus.extension.runtime;
 
+import java.util.List;
 import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigPhase;
@@ -48,6 +49,14 @@ public interface CouchbaseBuildTimeConfig {
     @WithName("devservices.use-dynamic-ports")
     boolean useDynamicPorts();
 
+    /**
+     * The names of the named clients configured under {@code quarkus.couchbase."name"}. Their beans are created at build
+     * time, so a client configured only at runtime, e.g. through environment variables, must be listed here. Clients
+     * named by a {@code @CouchbaseClient} injection point are added automatically.
+     */
+    @WithName("client-names")
+    Optional<List<String>> clientNames();
+
     /**
      * Whether to enable health checks or not.
      */
@@ -55,10 +64,97 @@ public interface CouchbaseBuildTimeConfig {
     @WithName("health.enabled")
     boolean healthEnabled();
 
+    /**
+     * Whether to add a readiness check of the KV service, which pings every KV endpoint of the bucket and reports their
+     * latency.
+     */
+    @WithDefault("false")
+    @WithName("health.kv.enabled")
+    boolean kvHealthEnabled();
+
+    /**
+     * Whether to add a readiness check of the Query service, which pings every Query endpoint and reports their latency.
+     */
+    @WithDefault("false")
+    @WithName("health.query.enabled")
+    boolean queryHealthEnabled();
+
+    /**
+     * Whether to add a readiness check of the Search service, which pings every Search endpoint and reports their latency.
+     */
+    @WithDefault("false")
+    @WithName("health.search.enabled")
+    boolean searchHealthEnabled();
+
+    /**
+     * Whether to add a readiness check of the Analytics service, which pings every Analytics endpoint and reports their
+     * latency.
+     */
+    @WithDefault("false")
+    @WithName("health.analytics.enabled")
+    boolean analyticsHealthEnabled();
+
     /**
      * Whether metrics are enabled.
      */
     @WithDefault("false")
     @WithName("metrics.enabled")
     boolean metricsEnabled();
+
+    /**
+     * Whether native images only register the reflection and proxy metadata of the SDK features the application uses,
+     * detected from references to their API types in the indexed classes. A feature only reached from a library
+     * without a Jandex index, or through reflection, is not detected and fails at runtime in the native image, so the
+     * features left out are logged at build time.
+     */
+    @WithDefault("false")
+    @WithName("native.prune-reflection")
+    boolean pruneReflection();
+
+    /**
+     * Whether to generate reflection-free JSON codecs at build time for the DTOs the application passes as a class
+     * literal to {@code contentAs} or {@code rowsAs}. Other types, and DTOs the generator cannot handle, keep using the
+     * SDK's serializer.
+     */
+    @WithDefault("false")
+    @WithName("json.generated-codecs")
+    boolean generatedCodecs();
+
+    /**
+     * Whether to emit JDK Flight Recorder events for SDK operations, timeouts, retries and endpoint state changes. The
+     * events are installed through a request tracer that replaces the SDK's threshold logging tracer, whose
+     * {@code threshold-tracer.*} settings are then ignored with a warning.
+     */
+    @WithDefault("false")
+    @WithName("jfr.enabled")
+    boolean jfrEnabled();
+
+    /**
+     * Whether to trace SDK operations with OpenTelemetry when {@code quarkus-opentelemetry} is present. Spans follow
+     * the Quarkus sampler, and replace the SDK's threshold logging tracer: an application with
+     * {@code quarkus-opentelemetry} no longer logs slow requests, and its {@code threshold-tracer.*} settings are
+     * ignored with a warning, unless this is set to {@code false}.
+     */
+    @WithDefault("true")
+    @WithName("tracing.enabled")
+    boolean tracingEnabled();
+
+    /**
+     * The Netty transport used by the SDK's event loops, one of {@code nio}, {@code epoll} or {@code io-uring}.
+     * Native transports fall back to NIO at runtime when they are not available on the host.
+     * If unset, the SDK's own default is kept (native IO when available).
+     * This is a build-time option because the native image must be built with the transport's native library.
+     */
+    @WithName("io.transport")
+    Optional<IoTransport> ioTransport();
+
+    enum IoTransport {
+        NIO,
+        EPOLL,
+        /**
+         * The SDK's {@code IoEnvironment} only accepts NIO, epoll and kqueue event loops, so io_uring
+         * currently uses epoll.
+         */
+        IO_URING
+    }
 }
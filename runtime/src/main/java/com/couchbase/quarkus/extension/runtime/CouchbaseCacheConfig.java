@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+
+/**
+ * A cache stored in Couchbase.
+ */
+@ConfigGroup
+public interface CouchbaseCacheConfig {
+
+    /**
+     * The name of the client the cache is stored with. Defaults to the default client.
+     */
+    Optional<String> client();
+
+    /**
+     * The collection the cache is stored in, as {@code bucket.scope.collection}. Defaults to the default collection
+     * of the client's {@code bucket-name}.
+     */
+    Optional<String> keyspace();
+
+    /**
+     * How long an entry is kept after it was written, set as the document's expiry. Entries do not expire by default.
+     */
+    Optional<Duration> expireAfterWrite();
+
+    /**
+     * The maximum number of entries kept in memory in front of Couchbase. The local tier is disabled by default.
+     */
+    OptionalLong localMaximumSize();
+
+    /**
+     * How long an entry is kept in the local tier after it was written. As an entry invalidated by another instance is
+     * still served locally until then, keep it short. Defaults to {@code expire-after-write}.
+     */
+    Optional<Duration> localExpireAfterWrite();
+
+    /**
+     * The classes cached values may hold, besides common JDK types and the return types of {@code @CacheResult} methods
+     * with the types of their fields, which are allowed automatically. Entries are class names or patterns such as
+     * {@code com.example.model.*} or {@code com.example.**}; a value holding any other class is not deserialized and
+     * handled as a cache miss.
+     */
+    Optional<List<String>> allowedClasses();
+}
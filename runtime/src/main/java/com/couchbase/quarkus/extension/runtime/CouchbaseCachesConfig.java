@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime;
+
+import java.util.Map;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithParentName;
+
+/**
+ * The caches stored in Couchbase when {@code quarkus.cache.type=couchbase}. Settings under
+ * {@code quarkus.couchbase.cache.*} apply to every cache, and those under {@code quarkus.couchbase.cache."name".*}
+ * override them for one cache.
+ */
+@ConfigGroup
+public interface CouchbaseCachesConfig {
+
+    @WithParentName
+    CouchbaseCacheConfig defaults();
+
+    @WithParentName
+    Map<String, CouchbaseCacheConfig> caches();
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.enterprise.util.AnnotationLiteral;
+import jakarta.inject.Qualifier;
+
+/**
+ * Selects the beans of a named client configured with {@code quarkus.couchbase."name".*}, e.g.
+ * {@code @Inject @CouchbaseClient("orders") Cluster cluster}. Beans without this qualifier belong to the default
+ * client, configured with {@code quarkus.couchbase.*}.
+ */
+@Qualifier
+@Retention(RUNTIME)
+@Target({ FIELD, METHOD, PARAMETER, TYPE })
+public @interface CouchbaseClient {
+
+    /**
+     * The name of the default client in {@link CouchbaseRuntimeConfig#clients()}.
+     */
+    String DEFAULT_CLIENT_NAME = "<default>";
+
+    /**
+     * @return the name of the client.
+     */
+    String value();
+
+    final class Literal extends AnnotationLiteral<CouchbaseClient> implements CouchbaseClient {
+
+        private final String value;
+
+        public Literal(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String value() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime;
+
+import java.util.Map;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithName;
+
+/**
+ * The connection settings of one client. The default client reads them from {@code quarkus.couchbase.*} and named
+ * clients from {@code quarkus.couchbase."name".*}.
+ */
+@ConfigGroup
+public interface CouchbaseClientConfig {
+    /**
+     * The connection string, e.g. "couchbase://10.202.32.32" or "localhost".
+     * Optional when DevServices are enabled with dynamic ports, in which case
+     * it will be automatically set to the container's connection string.
+     */
+    Optional<String> connectionString();
+
+    /**
+     * The username to authenticate with.
+     * Required, except when DevServices starts a container, in which case it is injected
+     */
+    Optional<String> username();
+
+    /**
+     * The password to authenticate with.
+     * Required, except when DevServices starts a container, in which case it is injected
+     */
+    Optional<String> password();
+
+    /**
+     * The name of the bucket to expose as an injectable {@code Bucket} bean.
+     * Required only if a {@code Bucket} is injected.
+     */
+    Optional<String> bucketName();
+
+    /**
+     * Settings for individual collections, keyed by keyspace in the form {@code bucket.scope.collection},
+     * e.g. {@code quarkus.couchbase.collections."travel-sample.inventory.hotel".near-cache.enabled=true}.
+     */
+    Map<String, CouchbaseCollectionConfig> collections();
+
+    /**
+     * The preferred server group to use for operations that support such.
+     */
+    @WithName("preferredServerGroup")
+    Optional<String> preferredServerGroup();
+
+    /**
+     * The SDK's connection settings.
+     */
+    CouchbaseIoConfig io();
+
+    /**
+     * The SDK's default timeouts.
+     */
+    CouchbaseTimeoutConfig timeout();
+
+    /**
+     * The SDK's document compression.
+     */
+    CouchbaseCompressionConfig compression();
+
+    /**
+     * The SDK's threshold logging tracer.
+     */
+    CouchbaseThresholdTracerConfig thresholdTracer();
+
+    /**
+     * The SDK's orphan reporter.
+     */
+    CouchbaseOrphanReporterConfig orphanReporter();
+
+    /**
+     * Whether to enable TLS for the Couchbase connections.
+     */
+    @WithName("security.enableTls")
+    Optional<Boolean> enableTls();
+
+    /**
+     * Whether to enable native TLS (OpenSSL) for better performance.
+     */
+    @WithName("security.enableNativeTls")
+    Optional<Boolean> enableNativeTls();
+
+    /**
+     * The path to a certificate file for TLS connections.
+     */
+    @WithName("security.trustCertificate")
+    Optional<String> certificatePath();
+
+    /**
+     * Whether to enable hostname verification for TLS connections.
+     * Set false to skip hostname verification (carries security risks, not recommended for production).
+     */
+    @WithName("security.enableHostnameVerification")
+    Optional<Boolean> enableHostnameVerification();
+
+    /**
+     * A list of enabled ciphers for TLS connections, separated by commas.
+     */
+    @WithName("security.ciphers")
+    Optional<String> ciphers();
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Settings applied to the extension's beans for a single collection.
+ */
+@ConfigGroup
+public interface CouchbaseCollectionConfig {
+
+    /**
+     * The in-process near cache for KV reads.
+     */
+    NearCacheConfig nearCache();
+
+    /**
+     * Coalescing of concurrent identical KV gets.
+     */
+    CoalescingConfig coalescing();
+
+    /**
+     * Hedging of slow KV gets with replica reads.
+     */
+    HedgingConfig hedging();
+
+    @ConfigGroup
+    interface NearCacheConfig {
+        /**
+         * Whether {@code get(id)} calls on the collection are served from an in-process cache.
+         * Writes made through the extension's collection beans invalidate the cached document.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The maximum number of documents kept in the near cache. Eviction uses W-TinyLFU.
+         */
+        @WithDefault("10000")
+        long maxSize();
+
+        /**
+         * How long a document stays in the near cache after it was fetched.
+         */
+        @WithDefault("60s")
+        Duration ttl();
+
+        /**
+         * The age after which a cached document is revalidated before being served: its CAS is fetched without the body
+         * and the cached copy is kept only if it is unchanged. If unset, cached documents are served until they expire.
+         */
+        Optional<Duration> revalidateAfter();
+    }
+
+    @ConfigGroup
+    interface CoalescingConfig {
+        /**
+         * Whether concurrent {@code get(id)} calls for the same document are merged into a single request whose
+         * outcome is returned to every caller.
+         */
+        @WithDefault("false")
+        boolean enabled();
+    }
+
+    @ConfigGroup
+    interface HedgingConfig {
+        /**
+         * Whether a {@code get(id)} call on the collection that the active copy is slow to answer also reads the document
+         * from a replica, and returns whichever copy answers first. A replica can return a slightly stale document.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The percentile of recent get latencies after which a replica read is sent, between 0 and 1.
+         */
+        @WithDefault("0.95")
+        double percentile();
+
+        /**
+         * The shortest time a get waits for the active copy before a replica read is sent.
+         */
+        @WithDefault("1ms")
+        Duration minDelay();
+
+        /**
+         * The maximum number of replica reads as a percentage of gets.
+         */
+        @WithDefault("5")
+        double maxExtraLoad();
+    }
+}
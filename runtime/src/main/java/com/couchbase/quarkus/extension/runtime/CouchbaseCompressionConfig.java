@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+
+/**
+ * The SDK's compression of KV documents with Snappy. The SDK's defaults are kept for the settings that are unset.
+ */
+@ConfigGroup
+public interface CouchbaseCompressionConfig {
+
+    /**
+     * Whether documents are compressed when they are sent and may be received compressed.
+     */
+    Optional<Boolean> enabled();
+
+    /**
+     * The size in bytes below which documents are sent uncompressed.
+     */
+    OptionalInt minSize();
+
+    /**
+     * The ratio of compressed to original size above which the compressed document is discarded and the original one
+     * sent, between 0 and 1.
+     */
+    OptionalDouble minRatio();
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+
+/**
+ * The SDK's connection settings of a client. The SDK's defaults are kept for the settings that are unset.
+ */
+@ConfigGroup
+public interface CouchbaseIoConfig {
+
+    /**
+     * The number of KV connections opened to each node.
+     */
+    OptionalInt numKvConnections();
+
+    /**
+     * The maximum number of HTTP connections per node for each of the Query, Search, Analytics and Views services.
+     */
+    OptionalInt maxHttpConnections();
+
+    /**
+     * How long an idle HTTP connection is kept open.
+     */
+    Optional<Duration> idleHttpConnectionTimeout();
+
+    /**
+     * The interval at which the cluster and bucket configs are polled.
+     */
+    Optional<Duration> configPollInterval();
+
+    /**
+     * Whether TCP keepalive is enabled on the connections.
+     */
+    Optional<Boolean> enableTcpKeepAlives();
+
+    /**
+     * The idle time after which TCP keepalive probes are sent.
+     */
+    Optional<Duration> tcpKeepAliveTime();
+
+    /**
+     * The circuit breaker of the KV, Query, Search and Analytics endpoints.
+     */
+    CircuitBreakerConfig circuitBreaker();
+
+    @ConfigGroup
+    interface CircuitBreakerConfig {
+        /**
+         * Whether an endpoint stops accepting requests for a while when too many of its requests fail.
+         */
+        Optional<Boolean> enabled();
+
+        /**
+         * The number of requests in the rolling window before the breaker can open.
+         */
+        OptionalInt volumeThreshold();
+
+        /**
+         * The percentage of failed requests in the rolling window above which the breaker opens, between 0 and 100.
+         */
+        OptionalInt errorThresholdPercentage();
+
+        /**
+         * How long an open breaker waits before letting a canary request through.
+         */
+        Optional<Duration> sleepWindow();
+
+        /**
+         * The window over which failures are counted.
+         */
+        Optional<Duration> rollingWindow();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Adaptive limits on the number of concurrent requests each client sends to a service.
+ */
+@ConfigGroup
+public interface CouchbaseLimiterConfig {
+
+    /**
+     * Whether the extension's beans limit the number of concurrent requests they send to each service. The limit of
+     * a service grows while its requests complete below the latency threshold, and shrinks when they exceed it or
+     * time out.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The limiter of KV operations.
+     */
+    ServiceLimiterConfig kv();
+
+    /**
+     * The limiter of Query requests.
+     */
+    ServiceLimiterConfig query();
+
+    /**
+     * The limiter of Search requests.
+     */
+    ServiceLimiterConfig search();
+
+    /**
+     * The limiter of Analytics requests.
+     */
+    ServiceLimiterConfig analytics();
+
+    @ConfigGroup
+    interface ServiceLimiterConfig {
+        /**
+         * Whether requests to this service are limited when limiters are enabled.
+         */
+        @WithDefault("true")
+        boolean enabled();
+
+        /**
+         * The limit before any request has completed.
+         */
+        @WithDefault("20")
+        int initialLimit();
+
+        /**
+         * The limit is never lowered below this.
+         */
+        @WithDefault("1")
+        int minLimit();
+
+        /**
+         * The limit is never raised above this.
+         */
+        @WithDefault("1000")
+        int maxLimit();
+
+        /**
+         * Requests slower than this lower the limit. Defaults to half of the SDK's timeout for the service.
+         */
+        Optional<Duration> latencyThreshold();
+
+        /**
+         * The factor the limit is multiplied by when a request is slower than the threshold or times out.
+         */
+        @WithDefault("0.9")
+        double backoffRatio();
+
+        /**
+         * The number of requests that may wait for a free slot when the limit is reached. Requests beyond it fail
+         * immediately.
+         */
+        @WithDefault("0")
+        int maxQueue();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+
+/**
+ * The SDK's orphan reporter, which periodically logs responses that arrived after their request had timed out. The
+ * SDK's defaults are kept for the settings that are unset.
+ */
+@ConfigGroup
+public interface CouchbaseOrphanReporterConfig {
+
+    /**
+     * Whether orphaned responses are logged.
+     */
+    Optional<Boolean> enabled();
+
+    /**
+     * The interval at which orphaned responses are logged.
+     */
+    Optional<Duration> emitInterval();
+
+    /**
+     * The number of orphaned responses logged per service and interval.
+     */
+    OptionalInt sampleSize();
+}
@@ -15,84 +15,480 @@
  */
 package com.couchbase.quarkus.extension.runtime;
 
+import java.lang.annotation.Annotation;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import jakarta.enterprise.inject.Any;
+
+import org.jboss.logging.Logger;
+
+import com.couchbase.client.core.cnc.RequestTracer;
+import com.couchbase.client.core.deps.io.netty.channel.EventLoopGroup;
+import com.couchbase.client.core.endpoint.CircuitBreakerConfig;
+import com.couchbase.client.core.io.CollectionIdentifier;
 import com.couchbase.client.java.Bucket;
 import com.couchbase.client.java.Cluster;
 import com.couchbase.client.java.ClusterOptions;
+import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.Scope;
 import com.couchbase.client.java.env.ClusterEnvironment;
 import com.couchbase.client.metrics.micrometer.MicrometerMeter;
+import com.couchbase.quarkus.extension.runtime.CouchbaseBuildTimeConfig.IoTransport;
+import com.couchbase.quarkus.extension.runtime.codec.JsonCodecRecorder;
+import com.couchbase.quarkus.extension.runtime.jfr.JfrRecorder;
+import com.couchbase.quarkus.extension.runtime.jfr.JfrRequestTracer;
+import com.couchbase.quarkus.extension.runtime.kv.BlockingCollection;
+import com.couchbase.quarkus.extension.runtime.limit.ServiceLimiters;
+import com.couchbase.quarkus.extension.runtime.mutiny.MutinyCluster;
+import com.couchbase.quarkus.extension.runtime.mutiny.MutinyCollection;
+import com.couchbase.quarkus.extension.runtime.topology.TopologyCache;
+import com.couchbase.quarkus.extension.runtime.tracing.TracingRecorder;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.SyntheticCreationalContext;
 import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
 public class CouchbaseRecorder {
 
+    private static final Logger LOG = Logger.getLogger(CouchbaseRecorder.class);
+
     private final RuntimeValue<CouchbaseRuntimeConfig> config;
 
     public CouchbaseRecorder(RuntimeValue<CouchbaseRuntimeConfig> config) {
         this.config = config;
     }
 
-    public Supplier<Cluster> getCluster(boolean metricsEnabled) {
+    /**
+     * Warns about named clients that have a connection string at runtime but no beans, because they were neither listed
+     * in {@code quarkus.couchbase.client-names} nor injected with {@code @CouchbaseClient} when the application was
+     * built.
+     */
+    public void checkClientNames(List<String> clientNames) {
+        config.getValue().clients().forEach((name, client) -> {
+            if (!clientNames.contains(name) && client.connectionString().isPresent()) {
+                LOG.warnf("%sconnection-string is set, but client %s has no beans; add it to"
+                        + " quarkus.couchbase.client-names", propertyPrefix(name), name);
+            }
+        });
+    }
+
+    /**
+     * Checks the SDK environment settings of the clients, so an invalid value fails the application start rather than
+     * the first use of the client. Only the default client's settings are used with a shared environment.
+     */
+    public void validateEnvironments(List<String> clientNames) {
+        CouchbaseRuntimeConfig c = config.getValue();
+        for (String clientName : c.sharedEnvironment() ? List.of(CouchbaseClient.DEFAULT_CLIENT_NAME) : clientNames) {
+            // The builder is never built, so no event loops or timers are created.
+            configureSettings(c.clients().get(clientName), ClusterEnvironment.builder(), propertyPrefix(clientName));
+        }
+    }
+
+    /**
+     * Returns the environment shared by all clients when {@code quarkus.couchbase.shared-environment} is enabled. It
+     * is built from the default client's settings on first use and shut down after the clusters are disconnected.
+     */
+    public Supplier<ClusterEnvironment> getSharedEnvironment(boolean metricsEnabled, Optional<IoTransport> transport,
+            Supplier<EventLoopGroup> mainEventLoopGroup, ShutdownContext shutdownContext) {
+        return new Supplier<ClusterEnvironment>() {
+
+            volatile ClusterEnvironment val;
+
+            @Override
+            public ClusterEnvironment get() {
+                if (val == null) {
+                    synchronized (this) {
+                        if (val == null) {
+                            CouchbaseRuntimeConfig c = config.getValue();
+                            ClusterEnvironment.Builder env = ClusterEnvironment.builder();
+                            configureEnvironment(c, CouchbaseClient.DEFAULT_CLIENT_NAME, env, metricsEnabled, transport,
+                                    mainEventLoopGroup);
+                            val = env.build();
+                            if (JfrRecorder.isEnabled()) {
+                                JfrRecorder.subscribe(val);
+                            }
+                            shutdownContext.addLastShutdownTask(val::shutdown);
+                        }
+                    }
+                }
+                return val;
+            }
+        };
+    }
+
+    public Supplier<Cluster> getCluster(String clientName, boolean metricsEnabled, Optional<IoTransport> transport,
+            Supplier<EventLoopGroup> mainEventLoopGroup, Supplier<ClusterEnvironment> sharedEnvironment,
+            ShutdownContext shutdownContext) {
         return () -> {
             CouchbaseRuntimeConfig c = config.getValue();
-            ClusterOptions clusterOptions = ClusterOptions.clusterOptions(c.username(), c.password());
-            clusterOptions.environment(env -> configureEnvironment(c, env, metricsEnabled));
-            return Cluster.connect(c.connectionString().orElseThrow(
-                    () -> new IllegalStateException("quarkus.couchbase.connection-string is required")), clusterOptions);
+            CouchbaseClientConfig client = c.clients().get(clientName);
+            String prefix = propertyPrefix(clientName);
+            ClusterOptions clusterOptions = ClusterOptions.clusterOptions(
+                    client.username().orElseThrow(() -> new IllegalStateException(prefix + "username is required")),
+                    client.password().orElseThrow(() -> new IllegalStateException(prefix + "password is required")));
+            if (c.sharedEnvironment()) {
+                clusterOptions.environment(sharedEnvironment.get());
+            } else {
+                clusterOptions.environment(
+                        env -> configureEnvironment(c, clientName, env, metricsEnabled, transport, mainEventLoopGroup));
+            }
+            String connectionString = client.connectionString().orElseThrow(
+                    () -> new IllegalStateException(prefix + "connection-string is required"));
+            Cluster cluster = Cluster.connect(connectionString, clusterOptions);
+            if (JfrRecorder.isEnabled() && !c.sharedEnvironment()) {
+                JfrRecorder.subscribe(cluster.environment());
+            }
+            topologyCache(clientName).ifPresent(cache -> {
+                cache.restoreGlobal(cluster.core());
+                shutdownContext.addShutdownTask(cache.watch(cluster.core())::dispose);
+            });
+            return cluster;
+        };
+    }
+
+    public Function<SyntheticCreationalContext<Bucket>, Bucket> getBucket(String clientName) {
+        return context -> {
+            String bucketName = requireBucketName(clientName, "Bucket");
+            Cluster cluster = context.getInjectedReference(Cluster.class, qualifiers(clientName));
+            Bucket bucket = cluster.bucket(bucketName);
+            topologyCache(clientName).ifPresent(cache -> cache.restoreBucket(cluster.core(), bucketName));
+            return bucket;
+        };
+    }
+
+    public Function<SyntheticCreationalContext<MutinyCluster>, MutinyCluster> getMutinyCluster(String clientName,
+            boolean metricsEnabled, boolean nearCacheSupported) {
+        return context -> {
+            CouchbaseRuntimeConfig c = config.getValue();
+            Map<String, CouchbaseCollectionConfig> collections = c.clients().get(clientName).collections();
+            if (!nearCacheSupported) {
+                collections.forEach((keyspace, collection) -> {
+                    if (collection.nearCache().enabled()) {
+                        throw new IllegalStateException(propertyPrefix(clientName) + "collections.\"" + keyspace
+                                + "\".near-cache.enabled requires the quarkus-caffeine extension");
+                    }
+                });
+            }
+            Cluster cluster = context.getInjectedReference(Cluster.class, qualifiers(clientName));
+            MeterRegistry registry = metricsEnabled ? Metrics.globalRegistry : null;
+            return new MutinyCluster(cluster, collections, registry,
+                    ServiceLimiters.create(clientName, c.limiter(), cluster.environment().timeoutConfig(), registry));
         };
     }
 
-    public Function<SyntheticCreationalContext<Bucket>, Bucket> getBucket() {
+    public Function<SyntheticCreationalContext<MutinyCollection>, MutinyCollection> getMutinyCollection(String clientName) {
         return context -> {
-            String bucketName = config.getValue().bucketName()
-                    .filter(name -> !name.isBlank())
-                    .orElseThrow(
-                            () -> new IllegalStateException("quarkus.couchbase.bucket-name is required to inject a Bucket"));
-            Cluster cluster = context.getInjectedReference(Cluster.class);
-            return cluster.bucket(bucketName);
+            String bucketName = requireBucketName(clientName, "MutinyCollection");
+            return openCollection(context, clientName, bucketName, CollectionIdentifier.DEFAULT_SCOPE,
+                    CollectionIdentifier.DEFAULT_COLLECTION);
         };
     }
 
-    private void configureEnvironment(CouchbaseRuntimeConfig c, ClusterEnvironment.Builder env, boolean metricsEnabled) {
+    public Function<SyntheticCreationalContext<BlockingCollection>, BlockingCollection> getBlockingCollection(
+            String clientName) {
+        return context -> context.getInjectedReference(MutinyCollection.class, qualifiers(clientName)).parking();
+    }
+
+    public Function<SyntheticCreationalContext<Scope>, Scope> getScope(String clientName, String bucketName, String scopeName) {
+        return context -> context.getInjectedReference(Cluster.class, qualifiers(clientName))
+                .bucket(bucketName.isEmpty() ? requireBucketName(clientName, "Scope") : bucketName)
+                .scope(scopeName);
+    }
+
+    public Function<SyntheticCreationalContext<Collection>, Collection> getCollection(String clientName, String bucketName,
+            String scopeName, String collectionName) {
+        return context -> mutinyCollection(context, clientName, bucketName, scopeName, collectionName).blocking();
+    }
+
+    public Function<SyntheticCreationalContext<MutinyCollection>, MutinyCollection> getMutinyCollection(String clientName,
+            String bucketName, String scopeName, String collectionName) {
+        return context -> mutinyCollection(context, clientName, bucketName, scopeName, collectionName);
+    }
+
+    public Function<SyntheticCreationalContext<BlockingCollection>, BlockingCollection> getBlockingCollection(
+            String clientName, String bucketName, String scopeName, String collectionName) {
+        return context -> mutinyCollection(context, clientName, bucketName, scopeName, collectionName).parking();
+    }
+
+    /**
+     * Creates the {@code @CouchbaseCollection} collection beans, so their handles are resolved and their collection IDs
+     * requested while the application starts rather than on the first operation.
+     */
+    public void resolveCollections() {
+        for (InstanceHandle<Collection> handle : Arc.container().listAll(Collection.class, Any.Literal.INSTANCE)) {
+            if (handle.getBean().getQualifiers().stream().anyMatch(CouchbaseCollection.class::isInstance)) {
+                handle.get().name();
+            }
+        }
+    }
+
+    private MutinyCollection mutinyCollection(SyntheticCreationalContext<?> context, String clientName, String bucketName,
+            String scopeName, String collectionName) {
+        return openCollection(context, clientName,
+                bucketName.isEmpty() ? requireBucketName(clientName, "Collection") : bucketName, scopeName, collectionName);
+    }
+
+    private MutinyCollection openCollection(SyntheticCreationalContext<?> context, String clientName, String bucketName,
+            String scopeName, String collectionName) {
+        MutinyCluster cluster = context.getInjectedReference(MutinyCluster.class, qualifiers(clientName));
+        MutinyCollection collection = cluster.collection(bucketName, scopeName, collectionName);
+        topologyCache(clientName).ifPresent(cache -> cache.restoreBucket(cluster.blocking().core(), bucketName));
+        return collection;
+    }
+
+    private Optional<TopologyCache> topologyCache(String clientName) {
+        CouchbaseRuntimeConfig c = config.getValue();
+        CouchbaseTopologyCacheConfig cacheConfig = c.topologyCache();
+        if (!cacheConfig.enabled()) {
+            return Optional.empty();
+        }
+        // The default directory is per user, so users sharing a host do not lock each other out of it.
+        Path root = cacheConfig.path().orElseGet(() -> Path.of(System.getProperty("java.io.tmpdir"),
+                "quarkus-couchbase-topology-" + System.getProperty("user.name")));
+        String name = CouchbaseRuntimeConfig.isDefaultClient(clientName) ? "default" : "client-" + clientName;
+        return c.clients().get(clientName).connectionString()
+                .map(connectionString -> new TopologyCache(root, name, connectionString, cacheConfig.maxAge()));
+    }
+
+    private String requireBucketName(String clientName, String beanType) {
+        return config.getValue().clients().get(clientName).bucketName()
+                .filter(name -> !name.isBlank())
+                .orElseThrow(() -> new IllegalStateException(
+                        propertyPrefix(clientName) + "bucket-name is required to inject a " + beanType));
+    }
+
+    private static Annotation[] qualifiers(String clientName) {
+        return CouchbaseRuntimeConfig.isDefaultClient(clientName)
+                ? new Annotation[0]
+                : new Annotation[] { new CouchbaseClient.Literal(clientName) };
+    }
+
+    private static String propertyPrefix(String clientName) {
+        return CouchbaseRuntimeConfig.isDefaultClient(clientName)
+                ? "quarkus.couchbase."
+                : "quarkus.couchbase.\"" + clientName + "\".";
+    }
+
+    private void configureEnvironment(CouchbaseRuntimeConfig c, String clientName, ClusterEnvironment.Builder env,
+            boolean metricsEnabled, Optional<IoTransport> transport, Supplier<EventLoopGroup> mainEventLoopGroup) {
+        CouchbaseClientConfig client = c.clients().get(clientName);
+        configureSettings(client, env, propertyPrefix(clientName));
+
         if (metricsEnabled) {
-            env.meter(MicrometerMeter.wrap(Metrics.globalRegistry))
-                    .loggingMeterConfig(meterConfig -> meterConfig
-                            .enabled(true)
-                            .emitInterval(Duration.ofSeconds(c.emitInterval())));
+            env.meter(MicrometerMeter.wrap(Metrics.globalRegistry));
         }
 
-        if (c.preferredServerGroup().isPresent()) {
-            env.preferredServerGroup(c.preferredServerGroup().get());
+        env.loggingMeterConfig(meterConfig -> {
+            meterConfig.emitInterval(Duration.ofSeconds(c.emitInterval()));
+            c.loggingMeterEnabled().ifPresent(meterConfig::enabled);
+        });
+
+        if (transport.isPresent()) {
+            // Only applies to the event loops the SDK creates itself, shared ones are built by NettyRecorder.
+            env.ioEnvironment(io -> io.enableNativeIo(transport.get() != IoTransport.NIO));
         }
 
-        if (c.enableNativeTls().isPresent()) {
-            env.securityConfig().enableNativeTls(c.enableNativeTls().get());
+        if (c.shareEventLoops()) {
+            // The SDK does not shut down event loop groups it was given, so sharing is safe with the bean lifecycle.
+            EventLoopGroup group = mainEventLoopGroup.get();
+            env.ioEnvironment(io -> io
+                    .managerEventLoopGroup(group)
+                    .kvEventLoopGroup(group)
+                    .queryEventLoopGroup(group)
+                    .analyticsEventLoopGroup(group)
+                    .searchEventLoopGroup(group)
+                    .viewEventLoopGroup(group)
+                    .eventingEventLoopGroup(group)
+                    .backupEventLoopGroup(group));
         }
 
-        if (c.enableTls().isPresent()) {
-            env.securityConfig().enableTls(c.enableTls().get());
+        JsonCodecRecorder.serializer().ifPresent(env::jsonSerializer);
+
+        // Either tracer replaces the SDK's threshold logging tracer.
+        RequestTracer tracer = TracingRecorder.isEnabled() ? TracingRecorder.tracer() : null;
+        if (JfrRecorder.isEnabled()) {
+            tracer = new JfrRequestTracer(tracer);
+        }
+        if (tracer != null) {
+            env.requestTracer(tracer);
+            if (isSet(client.thresholdTracer())) {
+                List<String> replacing = new ArrayList<>();
+                if (TracingRecorder.isEnabled()) {
+                    replacing.add("quarkus.couchbase.tracing.enabled");
+                }
+                if (JfrRecorder.isEnabled()) {
+                    replacing.add("quarkus.couchbase.jfr.enabled");
+                }
+                LOG.warnf("%sthreshold-tracer.* is set, but the threshold logging tracer is not used, and slow requests"
+                        + " are not logged, while %s is true", propertyPrefix(clientName), String.join(" and ", replacing));
+            }
         }
 
-        if (c.enableHostnameVerification().isPresent()) {
-            env.securityConfig().enableHostnameVerification(c.enableHostnameVerification().get());
+        if (client.preferredServerGroup().isPresent()) {
+            env.preferredServerGroup(client.preferredServerGroup().get());
         }
 
-        if (c.certificatePath().isPresent()) {
-            env.securityConfig().trustCertificate(Path.of(c.certificatePath().get()));
+        if (client.enableNativeTls().isPresent()) {
+            env.securityConfig().enableNativeTls(client.enableNativeTls().get());
         }
 
-        if (c.ciphers().isPresent()) {
-            var parsedCiphers = Arrays.asList(c.ciphers().get().split(","));
+        if (client.enableTls().isPresent()) {
+            env.securityConfig().enableTls(client.enableTls().get());
+        }
+
+        if (client.enableHostnameVerification().isPresent()) {
+            env.securityConfig().enableHostnameVerification(client.enableHostnameVerification().get());
+        }
+
+        if (client.certificatePath().isPresent()) {
+            env.securityConfig().trustCertificate(Path.of(client.certificatePath().get()));
+        }
+
+        if (client.ciphers().isPresent()) {
+            var parsedCiphers = Arrays.asList(client.ciphers().get().split(","));
             env.securityConfig().ciphers(parsedCiphers);
         }
+
+        for (InstanceHandle<ClusterEnvironmentCustomizer> customizer : Arc.container()
+                .listAll(ClusterEnvironmentCustomizer.class, Any.Literal.INSTANCE)) {
+            // Destroys @Dependent customizers once they have been applied.
+            try (customizer) {
+                customizer.get().customize(clientName, env);
+            }
+        }
+    }
+
+    private static void configureSettings(CouchbaseClientConfig client, ClusterEnvironment.Builder env, String prefix) {
+        configureIo(client.io(), env, prefix + "io.");
+        configureTimeouts(client.timeout(), env, prefix + "timeout.");
+        configureCompression(client.compression(), env, prefix + "compression.");
+        configureThresholdTracer(client.thresholdTracer(), env, prefix + "threshold-tracer.");
+        configureOrphanReporter(client.orphanReporter(), env, prefix + "orphan-reporter.");
+    }
+
+    private static void configureIo(CouchbaseIoConfig config, ClusterEnvironment.Builder env, String prefix) {
+        CouchbaseIoConfig.CircuitBreakerConfig breaker = config.circuitBreaker();
+        Consumer<CircuitBreakerConfig.Builder> circuitBreaker = builder -> {
+            breaker.enabled().ifPresent(builder::enabled);
+            breaker.volumeThreshold().ifPresent(
+                    value -> builder.volumeThreshold(atLeast(1, value, prefix + "circuit-breaker.volume-threshold")));
+            breaker.errorThresholdPercentage().ifPresent(value -> builder.errorThresholdPercentage(
+                    between(0, 100, value, prefix + "circuit-breaker.error-threshold-percentage")));
+            breaker.sleepWindow().ifPresent(
+                    value -> builder.sleepWindow(positive(value, prefix + "circuit-breaker.sleep-window")));
+            breaker.rollingWindow().ifPresent(
+                    value -> builder.rollingWindow(positive(value, prefix + "circuit-breaker.rolling-window")));
+        };
+        env.ioConfig(io -> {
+            config.numKvConnections().ifPresent(
+                    value -> io.numKvConnections(atLeast(1, value, prefix + "num-kv-connections")));
+            config.maxHttpConnections().ifPresent(
+                    value -> io.maxHttpConnections(atLeast(1, value, prefix + "max-http-connections")));
+            config.idleHttpConnectionTimeout().ifPresent(
+                    value -> io.idleHttpConnectionTimeout(positive(value, prefix + "idle-http-connection-timeout")));
+            config.configPollInterval().ifPresent(
+                    value -> io.configPollInterval(positive(value, prefix + "config-poll-interval")));
+            config.enableTcpKeepAlives().ifPresent(io::enableTcpKeepAlives);
+            config.tcpKeepAliveTime().ifPresent(
+                    value -> io.tcpKeepAliveTime(positive(value, prefix + "tcp-keep-alive-time")));
+            io.kvCircuitBreakerConfig(circuitBreaker)
+                    .queryCircuitBreakerConfig(circuitBreaker)
+                    .searchCircuitBreakerConfig(circuitBreaker)
+                    .analyticsCircuitBreakerConfig(circuitBreaker);
+        });
+    }
+
+    private static void configureTimeouts(CouchbaseTimeoutConfig config, ClusterEnvironment.Builder env, String prefix) {
+        env.timeoutConfig(timeouts -> {
+            config.kv().ifPresent(value -> timeouts.kvTimeout(positive(value, prefix + "kv")));
+            config.kvDurable().ifPresent(value -> timeouts.kvDurableTimeout(positive(value, prefix + "kv-durable")));
+            config.kvScan().ifPresent(value -> timeouts.kvScanTimeout(positive(value, prefix + "kv-scan")));
+            config.connect().ifPresent(value -> timeouts.connectTimeout(positive(value, prefix + "connect")));
+            config.disconnect().ifPresent(value -> timeouts.disconnectTimeout(positive(value, prefix + "disconnect")));
+            config.management().ifPresent(value -> timeouts.managementTimeout(positive(value, prefix + "management")));
+            config.query().ifPresent(value -> timeouts.queryTimeout(positive(value, prefix + "query")));
+            config.search().ifPresent(value -> timeouts.searchTimeout(positive(value, prefix + "search")));
+            config.analytics().ifPresent(value -> timeouts.analyticsTimeout(positive(value, prefix + "analytics")));
+            config.view().ifPresent(value -> timeouts.viewTimeout(positive(value, prefix + "view")));
+        });
+    }
+
+    private static void configureCompression(CouchbaseCompressionConfig config, ClusterEnvironment.Builder env,
+            String prefix) {
+        env.compressionConfig(compression -> {
+            config.enabled().ifPresent(compression::enable);
+            config.minSize().ifPresent(value -> compression.minSize(atLeast(0, value, prefix + "min-size")));
+            config.minRatio().ifPresent(value -> {
+                if (value <= 0 || value > 1) {
+                    throw new IllegalStateException(prefix + "min-ratio must be greater than 0 and at most 1, was " + value);
+                }
+                compression.minRatio(value);
+            });
+        });
+    }
+
+    private static void configureThresholdTracer(CouchbaseThresholdTracerConfig config, ClusterEnvironment.Builder env,
+            String prefix) {
+        env.thresholdLoggingTracerConfig(tracer -> {
+            config.emitInterval().ifPresent(value -> tracer.emitInterval(positive(value, prefix + "emit-interval")));
+            config.sampleSize().ifPresent(value -> tracer.sampleSize(atLeast(1, value, prefix + "sample-size")));
+            config.kvThreshold().ifPresent(value -> tracer.kvThreshold(positive(value, prefix + "kv-threshold")));
+            config.queryThreshold().ifPresent(value -> tracer.queryThreshold(positive(value, prefix + "query-threshold")));
+            config.searchThreshold().ifPresent(
+                    value -> tracer.searchThreshold(positive(value, prefix + "search-threshold")));
+            config.analyticsThreshold().ifPresent(
+                    value -> tracer.analyticsThreshold(positive(value, prefix + "analytics-threshold")));
+        });
+    }
+
+    private static boolean isSet(CouchbaseThresholdTracerConfig config) {
+        return config.emitInterval().isPresent() || config.sampleSize().isPresent() || config.kvThreshold().isPresent()
+                || config.queryThreshold().isPresent() || config.searchThreshold().isPresent()
+                || config.analyticsThreshold().isPresent();
+    }
+
+    private static void configureOrphanReporter(CouchbaseOrphanReporterConfig config, ClusterEnvironment.Builder env,
+            String prefix) {
+        env.orphanReporterConfig(reporter -> {
+            config.enabled().ifPresent(reporter::enabled);
+            config.emitInterval().ifPresent(value -> reporter.emitInterval(positive(value, prefix + "emit-interval")));
+            config.sampleSize().ifPresent(value -> reporter.sampleSize(atLeast(1, value, prefix + "sample-size")));
+        });
+    }
+
+    private static int atLeast(int min, int value, String property) {
+        if (value < min) {
+            throw new IllegalStateException(property + " must be at least " + min + ", was " + value);
+        }
+        return value;
+    }
+
+    private static int between(int min, int max, int value, String property) {
+        if (value < min || value > max) {
+            throw new IllegalStateException(property + " must be between " + min + " and " + max + ", was " + value);
+        }
+        return value;
+    }
+
+    private static Duration positive(Duration value, String property) {
+        if (value.isNegative() || value.isZero()) {
+            throw new IllegalStateException(property + " must be positive, was " + value);
+        }
+        return value;
     }
 }
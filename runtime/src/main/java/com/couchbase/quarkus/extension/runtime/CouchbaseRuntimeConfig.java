@@ -15,41 +15,67 @@
  */
 package com.couchbase.quarkus.extension.runtime;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
 import io.smallrye.config.WithDefault;
+import io.smallrye.config.WithDefaults;
 import io.smallrye.config.WithName;
+import io.smallrye.config.WithParentName;
+import io.smallrye.config.WithUnnamedKey;
 
 @ConfigMapping(prefix = "quarkus.couchbase")
 @ConfigRoot(phase = ConfigPhase.RUN_TIME)
 public interface CouchbaseRuntimeConfig {
     /**
-     * The connection string, e.g. "couchbase://10.202.32.32" or "localhost".
-     * Optional when DevServices are enabled with dynamic ports, in which case
-     * it will be automatically set to the container's connection string.
+     * The clients, keyed by name. The default client is configured directly under {@code quarkus.couchbase} and
+     * named clients under {@code quarkus.couchbase."name"}.
      */
-    Optional<String> connectionString();
+    @WithParentName
+    @WithDefaults
+    @WithUnnamedKey(CouchbaseClient.DEFAULT_CLIENT_NAME)
+    @ConfigDocMapKey("client-name")
+    Map<String, CouchbaseClientConfig> clients();
+
+    static boolean isDefaultClient(String name) {
+        return CouchbaseClient.DEFAULT_CLIENT_NAME.equals(name);
+    }
 
     /**
-     * The username to authenticate with.
-     * Required, except when DevServices starts a container, in which case it is injected
+     * Whether all clients connect with a single {@code ClusterEnvironment}, so event loops, timers and buffer
+     * allocators are created once per application instead of once per cluster. The shared environment is built
+     * from the settings of the default client; the preferred server group, security and SDK environment settings of
+     * named clients are then ignored.
      */
-    String username();
+    @WithDefault("false")
+    @WithName("shared-environment")
+    boolean sharedEnvironment();
 
     /**
-     * The password to authenticate with.
-     * Required, except when DevServices starts a container, in which case it is injected
+     * The on-disk cache of cluster and bucket configs.
      */
-    String password();
+    CouchbaseTopologyCacheConfig topologyCache();
 
     /**
-     * The name of the bucket to expose as an injectable {@code Bucket} bean.
-     * Required only if a {@code Bucket} is injected.
+     * Warmup of the default client on startup.
      */
-    Optional<String> bucketName();
+    CouchbaseWarmupConfig warmup();
+
+    /**
+     * The caches stored in Couchbase when {@code quarkus.cache.type=couchbase}.
+     */
+    CouchbaseCachesConfig cache();
+
+    /**
+     * Adaptive concurrency limits of each client's requests, per service.
+     */
+    CouchbaseLimiterConfig limiter();
 
     /**
      * The timeout for the Ready health check in seconds
@@ -59,6 +85,63 @@ public interface CouchbaseRuntimeConfig {
     @WithName("health.readiness.timeout")
     int readinessTimeout();
 
+    /**
+     * Whether the Ready health check is run by a background task instead of on every request. Requests then return
+     * the result of the last probe without contacting the cluster.
+     */
+    @WithDefault("false")
+    @WithName("health.readiness.background.enabled")
+    boolean readinessBackgroundEnabled();
+
+    /**
+     * The interval between background readiness probes. A probe also runs whenever the set of nodes in the cluster
+     * topology changes.
+     */
+    @WithDefault("10s")
+    @WithName("health.readiness.background.interval")
+    Duration readinessInterval();
+
+    /**
+     * How old the result of the last background probe may be before the Ready health check reports DOWN.
+     */
+    @WithDefault("30s")
+    @WithName("health.readiness.background.max-staleness")
+    Duration readinessMaxStaleness();
+
+    /**
+     * The bucket pinged by the per-service health checks. Defaults to the default client's {@code bucket-name}.
+     */
+    @WithName("health.bucket-name")
+    Optional<String> healthBucketName();
+
+    /**
+     * The timeout of the KV readiness check.
+     */
+    @WithDefault("3s")
+    @WithName("health.kv.timeout")
+    Duration kvHealthTimeout();
+
+    /**
+     * The timeout of the Query readiness check.
+     */
+    @WithDefault("3s")
+    @WithName("health.query.timeout")
+    Duration queryHealthTimeout();
+
+    /**
+     * The timeout of the Search readiness check.
+     */
+    @WithDefault("3s")
+    @WithName("health.search.timeout")
+    Duration searchHealthTimeout();
+
+    /**
+     * The timeout of the Analytics readiness check.
+     */
+    @WithDefault("3s")
+    @WithName("health.analytics.timeout")
+    Duration analyticsHealthTimeout();
+
     /**
      * The interval in seconds when metrics are emitted.
      */
@@ -67,39 +150,68 @@ public interface CouchbaseRuntimeConfig {
     int emitInterval();
 
     /**
-     * The preferred server group to use for operations that support such.
+     * Whether the SDK's logging meter, which periodically logs a latency summary, is enabled. Independent of
+     * {@code quarkus.couchbase.metrics.enabled}; the SDK's default is kept if unset.
      */
-    @WithName("preferredServerGroup")
-    Optional<String> preferredServerGroup();
+    @WithName("metrics.logging.enabled")
+    Optional<Boolean> loggingMeterEnabled();
 
     /**
-     * Whether to enable TLS for the Couchbase connections.
+     * Whether to publish a percentile histogram of the operation latencies, for percentiles aggregated across instances
+     * by the monitoring system.
      */
-    @WithName("security.enableTls")
-    Optional<Boolean> enableTls();
+    @WithDefault("false")
+    @WithName("metrics.histogram.enabled")
+    boolean histogramEnabled();
 
     /**
-     * Whether to enable native TLS (OpenSSL) for better performance.
+     * Latency percentiles computed in the application, e.g. {@code 0.5,0.99}. They cannot be aggregated across
+     * instances.
      */
-    @WithName("security.enableNativeTls")
-    Optional<Boolean> enableNativeTls();
+    @WithName("metrics.percentiles")
+    Optional<List<Double>> percentiles();
 
     /**
-     * The path to a certificate file for TLS connections.
+     * Latency service level objectives published as histogram buckets, e.g. {@code 5ms,20ms,100ms}.
      */
-    @WithName("security.trustCertificate")
-    Optional<String> certificatePath();
+    @WithName("metrics.slos")
+    Optional<List<Duration>> slos();
 
     /**
-     * Whether to enable hostname verification for TLS connections.
-     * Set false to skip hostname verification (carries security risks, not recommended for production).
+     * The tags kept on the SDK's meters. Removing tags, e.g. {@code collection}, lowers the number of time series.
      */
-    @WithName("security.enableHostnameVerification")
-    Optional<Boolean> enableHostnameVerification();
+    @WithDefault("service,operation,bucket,scope,collection,outcome")
+    @WithName("metrics.tags")
+    List<MetricsTag> metricsTags();
 
     /**
-     * A list of enabled ciphers for TLS connections, separated by commas.
+     * Whether the SDK should run its IO on the extension's shared {@code @MainEventLoopGroup} instead of
+     * creating its own event loops. When enabled, KV, HTTP services and config management all use the same
+     * set of IO threads, so a process has a single Netty IO pool.
      */
-    @WithName("security.ciphers")
-    Optional<String> ciphers();
+    @WithDefault("false")
+    @WithName("io.share-event-loops")
+    boolean shareEventLoops();
+
+    enum MetricsTag {
+        SERVICE("db.couchbase.service", "couchbase.service"),
+        OPERATION("db.operation", "db.operation.name"),
+        BUCKET("db.name", "db.namespace"),
+        SCOPE("db.couchbase.scope", "couchbase.scope.name"),
+        COLLECTION("db.couchbase.collection", "couchbase.collection.name"),
+        OUTCOME("outcome", "error.type");
+
+        private final List<String> keys;
+
+        MetricsTag(String... keys) {
+            this.keys = List.of(keys);
+        }
+
+        /**
+         * @return the tag keys of the dimension, in the SDK's legacy and OpenTelemetry semantic conventions.
+         */
+        public List<String> keys() {
+            return keys;
+        }
+    }
 }
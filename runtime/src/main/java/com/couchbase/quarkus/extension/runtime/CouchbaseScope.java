@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import jakarta.inject.Qualifier;
+
+/**
+ * Selects a {@code Scope} handle resolved once at startup, e.g.
+ * {@code @Inject @CouchbaseScope(bucket = "travel-sample", scope = "inventory") Scope}. A bean is produced at build
+ * time for each distinct qualifier found on an injection point.
+ */
+@Qualifier
+@Retention(RUNTIME)
+@Target({ FIELD, METHOD, PARAMETER })
+public @interface CouchbaseScope {
+
+    /**
+     * @return the bucket name, or an empty string for the {@code bucket-name} of the client.
+     */
+    String bucket() default "";
+
+    String scope();
+
+    /**
+     * @return the name of the client the scope belongs to, the default client if unset.
+     */
+    String client() default CouchbaseClient.DEFAULT_CLIENT_NAME;
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+
+/**
+ * The SDK's threshold logging tracer, which periodically logs the slowest requests of each service. It is not used
+ * when JFR events or OpenTelemetry tracing replace it, which is the default when {@code quarkus-opentelemetry} is
+ * present, and a warning is logged if any of these settings is set then. The SDK's defaults are kept for the settings
+ * that are unset.
+ */
+@ConfigGroup
+public interface CouchbaseThresholdTracerConfig {
+
+    /**
+     * The interval at which the slowest requests are logged.
+     */
+    Optional<Duration> emitInterval();
+
+    /**
+     * The number of requests logged per service and interval.
+     */
+    OptionalInt sampleSize();
+
+    /**
+     * KV requests slower than this are logged.
+     */
+    Optional<Duration> kvThreshold();
+
+    /**
+     * Query requests slower than this are logged.
+     */
+    Optional<Duration> queryThreshold();
+
+    /**
+     * Search requests slower than this are logged.
+     */
+    Optional<Duration> searchThreshold();
+
+    /**
+     * Analytics requests slower than this are logged.
+     */
+    Optional<Duration> analyticsThreshold();
+}
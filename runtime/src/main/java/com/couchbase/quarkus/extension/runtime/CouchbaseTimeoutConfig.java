@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+
+/**
+ * The SDK's default timeouts of a client, per service. The SDK's defaults are kept for the timeouts that are unset.
+ */
+@ConfigGroup
+public interface CouchbaseTimeoutConfig {
+
+    /**
+     * The timeout of KV operations.
+     */
+    Optional<Duration> kv();
+
+    /**
+     * The timeout of KV operations with a durability level.
+     */
+    Optional<Duration> kvDurable();
+
+    /**
+     * The timeout of KV range scans.
+     */
+    Optional<Duration> kvScan();
+
+    /**
+     * The timeout of opening a bucket and connecting.
+     */
+    Optional<Duration> connect();
+
+    /**
+     * The timeout of disconnecting and shutting down.
+     */
+    Optional<Duration> disconnect();
+
+    /**
+     * The timeout of management operations.
+     */
+    Optional<Duration> management();
+
+    /**
+     * The timeout of Query requests.
+     */
+    Optional<Duration> query();
+
+    /**
+     * The timeout of Search requests.
+     */
+    Optional<Duration> search();
+
+    /**
+     * The timeout of Analytics requests.
+     */
+    Optional<Duration> analytics();
+
+    /**
+     * The timeout of View requests.
+     */
+    Optional<Duration> view();
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+/**
+ * The on-disk cache of the last known cluster and bucket configs.
+ */
+@ConfigGroup
+public interface CouchbaseTopologyCacheConfig {
+
+    /**
+     * Whether the last known cluster and bucket configs are saved to disk and handed to the SDK when the next process
+     * connects, so operations can be routed before the seed nodes have answered. The SDK keeps fetching configs as
+     * usual and replaces the cached ones as soon as it has newer ones.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * The directory the configs are saved in, one subdirectory per client. Defaults to a directory named after the
+     * process user in {@code java.io.tmpdir}. Directories are created readable by the process user only, and the cache
+     * is not used if the directory belongs to another user or can be written by other users.
+     */
+    Optional<Path> path();
+
+    /**
+     * Cached configs older than this are ignored at startup.
+     */
+    @WithDefault("1h")
+    Duration maxAge();
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.smallrye.config.WithDefault;
+
+/**
+ * Warmup of the default client when the application starts.
+ */
+@ConfigGroup
+public interface CouchbaseWarmupConfig {
+
+    /**
+     * Whether to connect and warm up the default client on startup. The readiness check reports DOWN until warmup
+     * has completed.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * How long warmup may take. If it times out or fails, a warning is logged and readiness falls back to the
+     * regular checks.
+     */
+    @WithDefault("30s")
+    Duration timeout();
+
+    /**
+     * The buckets and collections to open, as {@code bucket} or {@code bucket.scope.collection}. For a bucket, warmup
+     * waits until its KV connections are established. For a collection, it also fetches the collection ID. Defaults to
+     * the default client's {@code bucket-name}.
+     */
+    Optional<List<String>> keyspaces();
+
+    /**
+     * The number of Query connections to open by running that many trivial queries concurrently.
+     */
+    @WithDefault("0")
+    int queryConnections();
+
+    /**
+     * N1QL statements to prepare by running them once as prepared statements, so the first real execution reuses
+     * the cached plan. The statements must not take parameters. They are executed on every startup of every instance,
+     * so only {@code SELECT} statements are accepted, and they run as read-only queries.
+     */
+    Optional<List<String>> statements();
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.couchbase.client.core.error.DecodingFailureException;
+import com.couchbase.client.core.error.EncodingFailureException;
+import com.couchbase.client.core.msg.kv.CodecFlags;
+import com.couchbase.client.java.codec.Transcoder;
+
+/**
+ * Stores cache values with Java serialization, resolving classes with the application's class loader rather than the
+ * SDK's as the SDK's {@code SerializableTranscoder} does, which would not see application classes in dev mode.
+ * <p>
+ * Anyone able to write to the collection could otherwise have any class on the class path deserialized, so values
+ * are read through an allow-list: common JDK value and collection types, and the classes given to the constructor.
+ */
+final class CacheValueTranscoder implements Transcoder {
+
+    /**
+     * JDK types that are safe to deserialize, in {@link ObjectInputFilter.Config#createFilter(String)} syntax.
+     */
+    private static final List<String> JDK_CLASSES = List.of(
+            "java.lang.String", "java.lang.Boolean", "java.lang.Character", "java.lang.Number", "java.lang.Byte",
+            "java.lang.Short", "java.lang.Integer", "java.lang.Long", "java.lang.Float", "java.lang.Double",
+            "java.lang.Enum", "java.math.BigInteger", "java.math.BigDecimal", "java.util.*",
+            "java.util.concurrent.*", "java.time.*");
+
+    private static final int MAX_DEPTH = 64;
+
+    private final ClassLoader classLoader;
+    private final ObjectInputFilter filter;
+
+    /**
+     * @param allowedClasses the classes values may hold besides the JDK ones, as class names or
+     *        {@link ObjectInputFilter.Config#createFilter(String)} patterns such as {@code com.example.*}.
+     */
+    CacheValueTranscoder(ClassLoader classLoader, Collection<String> allowedClasses) {
+        this.classLoader = classLoader;
+        List<String> patterns = new ArrayList<>();
+        patterns.add("maxdepth=" + MAX_DEPTH);
+        patterns.addAll(JDK_CLASSES);
+        patterns.add(CouchbaseCache.NULL_VALUE_CLASS);
+        patterns.addAll(allowedClasses);
+        patterns.add("!*");
+        this.filter = ObjectInputFilter.Config.createFilter(String.join(";", patterns));
+    }
+
+    @Override
+    public EncodedValue encode(Object input) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(input);
+        } catch (IOException e) {
+            throw new EncodingFailureException("Serializing of cache value " + input.getClass().getName() + " failed", e);
+        }
+        return new EncodedValue(bytes.toByteArray(), CodecFlags.SERIALIZED_COMPAT_FLAGS);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T decode(Class<T> target, byte[] input, int flags) {
+        try (ObjectInputStream in = new ApplicationObjectInputStream(new ByteArrayInputStream(input), classLoader)) {
+            in.setObjectInputFilter(filter);
+            return (T) in.readObject();
+        } catch (InvalidClassException e) {
+            throw new DecodingFailureException("Deserialization of cache value failed, " + e.getMessage()
+                    + ". Classes of cached values must be listed in quarkus.couchbase.cache.allowed-classes", e);
+        } catch (IOException | ClassNotFoundException e) {
+            throw new DecodingFailureException("Deserialization of cache value failed", e);
+        }
+    }
+
+    private static final class ApplicationObjectInputStream extends ObjectInputStream {
+
+        private final ClassLoader classLoader;
+
+        ApplicationObjectInputStream(InputStream in, ClassLoader classLoader) throws IOException {
+            super(in);
+            this.classLoader = classLoader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
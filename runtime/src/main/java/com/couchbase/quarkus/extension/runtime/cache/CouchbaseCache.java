@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.cache;
+
+import static com.couchbase.client.java.kv.GetOptions.getOptions;
+import static com.couchbase.client.java.kv.RemoveOptions.removeOptions;
+import static com.couchbase.client.java.kv.UpsertOptions.upsertOptions;
+import static com.couchbase.client.java.query.QueryOptions.queryOptions;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.jboss.logging.Logger;
+
+import com.couchbase.client.core.error.DecodingFailureException;
+import com.couchbase.client.core.error.DocumentNotFoundException;
+import com.couchbase.client.java.json.JsonObject;
+import com.couchbase.client.java.kv.UpsertOptions;
+import com.couchbase.quarkus.extension.runtime.mutiny.MutinyCluster;
+import com.couchbase.quarkus.extension.runtime.mutiny.MutinyCollection;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.DefaultCacheKey;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.runtime.BlockingOperationControl;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+
+/**
+ * A Quarkus cache stored in a Couchbase collection, with an optional local tier in front.
+ * <p>
+ * Each entry is a document whose ID is the cache name followed by the encoded key, and whose content is the Java serialized
+ * value, so values must be {@link Serializable}. Couchbase errors are logged and handled as cache misses, so an
+ * unavailable cluster slows the application down but does not fail it.
+ */
+final class CouchbaseCache extends AbstractCache {
+
+    private static final Logger log = Logger.getLogger(CouchbaseCache.class);
+
+    /**
+     * The longest document ID the server accepts, in bytes.
+     */
+    private static final int MAX_ID_LENGTH = 250;
+
+    /**
+     * The class stored for a cached {@code null}, which {@link CacheValueTranscoder} must allow.
+     */
+    static final String NULL_VALUE_CLASS = NullValue.class.getName();
+
+    /**
+     * Short type names of the common key types, the class name is used for other types.
+     */
+    private static final Map<Class<?>, String> KEY_TYPES = Map.ofEntries(
+            Map.entry(String.class, "string"),
+            Map.entry(Character.class, "char"),
+            Map.entry(Boolean.class, "boolean"),
+            Map.entry(Byte.class, "byte"),
+            Map.entry(Short.class, "short"),
+            Map.entry(Integer.class, "int"),
+            Map.entry(Long.class, "long"),
+            Map.entry(Float.class, "float"),
+            Map.entry(Double.class, "double"),
+            Map.entry(BigInteger.class, "biginteger"),
+            Map.entry(BigDecimal.class, "bigdecimal"),
+            Map.entry(UUID.class, "uuid"));
+
+    private final String name;
+    private final MutinyCluster cluster;
+    private final MutinyCollection collection;
+    private final CacheValueTranscoder transcoder;
+    private final Optional<Duration> expireAfterWrite;
+    private final Cache<Object, Object> local;
+    private final String prefix;
+
+    CouchbaseCache(String name, MutinyCluster cluster, MutinyCollection collection, CacheValueTranscoder transcoder,
+            Optional<Duration> expireAfterWrite, Cache<Object, Object> local) {
+        this.name = name;
+        this.cluster = cluster;
+        this.collection = collection;
+        this.transcoder = transcoder;
+        this.expireAfterWrite = expireAfterWrite;
+        this.local = local;
+        this.prefix = name + "::";
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public <K, V> Uni<V> get(K key, Function<K, V> valueLoader) {
+        return getAsync(key, k -> Uni.createFrom().item(() -> valueLoader.apply(k)));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        return Uni.createFrom().deferred(() -> {
+            // Recorded before the lookup, which completes on the caller's Vert.x context, an event loop even for a
+            // worker thread, or on an SDK IO thread when the caller has no context.
+            boolean blockingAllowed = BlockingOperationControl.isBlockingAllowed();
+            if (local != null) {
+                Object cached = local.getIfPresent(key);
+                if (cached != null) {
+                    return Uni.createFrom().item((V) fromCacheValue(cached));
+                }
+            }
+            String id = documentId(key);
+            Uni<Object> lookup = collection.get(id, getOptions().transcoder(transcoder))
+                    .map(result -> result.contentAs(Object.class))
+                    .onFailure().recoverWithItem(failure -> {
+                        if (failure instanceof DecodingFailureException) {
+                            log.warnf(failure, "Unable to decode %s from cache %s", id, name);
+                        } else if (!(failure instanceof DocumentNotFoundException)) {
+                            log.debugf(failure, "Unable to read %s from cache %s", id, name);
+                        }
+                        return null;
+                    });
+            if (blockingAllowed) {
+                // The value loader may block like its caller, so it must not run on either of those threads.
+                lookup = lookup.emitOn(Infrastructure.getDefaultWorkerPool());
+            }
+            return lookup.onItem().transformToUni(cached -> {
+                if (cached != null) {
+                    putLocal(key, cached);
+                    return Uni.createFrom().item((V) fromCacheValue(cached));
+                }
+                return valueLoader.apply(key).call(value -> store(key, id, value));
+            });
+        });
+    }
+
+    @Override
+    public Uni<Void> invalidate(Object key) {
+        Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        return Uni.createFrom().deferred(() -> {
+            if (local != null) {
+                local.invalidate(key);
+            }
+            return collection.remove(documentId(key), removeOptions())
+                    .replaceWithVoid()
+                    .onFailure(DocumentNotFoundException.class).recoverWithNull();
+        });
+    }
+
+    /**
+     * Removes the documents of this cache with a N1QL {@code DELETE}, which requires an index on the collection that
+     * covers document IDs, such as its primary index.
+     */
+    @Override
+    public Uni<Void> invalidateAll() {
+        return Uni.createFrom().deferred(() -> {
+            if (local != null) {
+                local.invalidateAll();
+            }
+            String statement = "DELETE FROM `" + collection.bucketName() + "`.`" + collection.scopeName() + "`.`"
+                    + collection.name() + "` WHERE META().id LIKE $prefix";
+            return cluster.query(statement, queryOptions()
+                    .parameters(JsonObject.create().put("prefix", escapeLike(prefix) + "%")))
+                    .replaceWithVoid();
+        });
+    }
+
+    /**
+     * Invalidates the entries of the local tier whose keys match, in the local tier and in Couchbase. Keys are not
+     * stored in Couchbase, so entries that are not in the local tier are not matched.
+     */
+    @Override
+    public Uni<Void> invalidateIf(Predicate<Object> predicate) {
+        return Uni.createFrom().deferred(() -> {
+            if (local == null) {
+                return Uni.createFrom().voidItem();
+            }
+            List<Uni<Void>> invalidations = new ArrayList<>();
+            for (Object key : local.asMap().keySet()) {
+                if (predicate.test(key)) {
+                    invalidations.add(invalidate(key));
+                }
+            }
+            return invalidations.isEmpty()
+                    ? Uni.createFrom().voidItem()
+                    : Uni.join().all(invalidations).andFailFast().replaceWithVoid();
+        });
+    }
+
+    private Uni<Void> store(Object key, String id, Object value) {
+        Object cacheValue = value == null ? NullValue.INSTANCE : value;
+        putLocal(key, cacheValue);
+        UpsertOptions options = upsertOptions().transcoder(transcoder);
+        expireAfterWrite.ifPresent(options::expiry);
+        return collection.upsert(id, cacheValue, options)
+                .replaceWithVoid()
+                .onFailure().recoverWithItem(failure -> {
+                    log.warnf(failure, "Unable to write %s to cache %s", id, name);
+                    return null;
+                });
+    }
+
+    private void putLocal(Object key, Object cacheValue) {
+        if (local != null) {
+            local.put(key, cacheValue);
+        }
+    }
+
+    private static Object fromCacheValue(Object cacheValue) {
+        return cacheValue == NullValue.INSTANCE ? null : cacheValue;
+    }
+
+    /**
+     * Builds the document ID of a key from its type and string form, hashing keys too long for a document ID.
+     * <p>
+     * The type keeps keys with the same string form apart, such as {@code 1} and {@code "1"}, and each element of a
+     * composite key is prefixed with its length, so {@code ("a,b", "c")} and {@code ("a", "b,c")} do not collide.
+     */
+    String documentId(Object key) {
+        StringBuilder keyString = new StringBuilder();
+        if (key instanceof CompositeCacheKey composite) {
+            keyString.append("composite:");
+            for (Object element : composite.getKeyElements()) {
+                String encoded = encodeKey(element);
+                keyString.append(encoded.length()).append(':').append(encoded);
+            }
+        } else {
+            keyString.append(encodeKey(key));
+        }
+        String id = prefix + keyString;
+        if (id.getBytes(StandardCharsets.UTF_8).length <= MAX_ID_LENGTH) {
+            return id;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(keyString.toString().getBytes(StandardCharsets.UTF_8));
+            return prefix + "sha256:" + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Encodes a key as its type followed by its string form. Keys are shared by every instance of the application, so
+     * a key whose string form is {@link Object#toString()}'s, based on its identity hash, is rejected.
+     */
+    private static String encodeKey(Object key) {
+        if (key == null) {
+            return "null";
+        }
+        if (key instanceof DefaultCacheKey) {
+            // The key of methods without parameters, one per cache.
+            return "default";
+        }
+        String type = KEY_TYPES.get(key.getClass());
+        if (type != null) {
+            return type + ':' + key;
+        }
+        if (key instanceof Enum<?> constant) {
+            return constant.getDeclaringClass().getName() + ':' + constant.name();
+        }
+        String value = key.toString();
+        if (key.getClass().isArray()
+                || value.equals(key.getClass().getName() + '@' + Integer.toHexString(key.hashCode()))) {
+            throw new IllegalArgumentException("Cache key of type " + key.getClass().getName()
+                    + " has no stable string form, override toString() to use it as a key of a Couchbase cache");
+        }
+        return key.getClass().getName() + ':' + value;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * Stands for a cached {@code null}.
+     */
+    private enum NullValue {
+        INSTANCE
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.cache;
+
+import java.lang.annotation.Annotation;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.couchbase.client.core.io.CollectionIdentifier;
+import com.couchbase.quarkus.extension.runtime.CouchbaseCacheConfig;
+import com.couchbase.quarkus.extension.runtime.CouchbaseCachesConfig;
+import com.couchbase.quarkus.extension.runtime.CouchbaseClient;
+import com.couchbase.quarkus.extension.runtime.CouchbaseRuntimeConfig;
+import com.couchbase.quarkus.extension.runtime.mutiny.MutinyCluster;
+import com.couchbase.quarkus.extension.runtime.mutiny.MutinyCollection;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheManagerInfo;
+import io.quarkus.cache.runtime.CacheManagerImpl;
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class CouchbaseCacheRecorder {
+
+    /**
+     * The value of {@code quarkus.cache.type} selecting this backend.
+     */
+    public static final String CACHE_TYPE = "couchbase";
+
+    private final RuntimeValue<CouchbaseRuntimeConfig> config;
+
+    public CouchbaseCacheRecorder(RuntimeValue<CouchbaseRuntimeConfig> config) {
+        this.config = config;
+    }
+
+    /**
+     * @param valueClasses the classes found at build time in the return types of {@code @CacheResult} methods, which
+     *        cached values may be deserialized into.
+     */
+    public CacheManagerInfo getCacheManagerInfo(Set<String> valueClasses) {
+        return new CacheManagerInfo() {
+
+            @Override
+            public boolean supports(Context context) {
+                return context.cacheEnabled() && CACHE_TYPE.equals(context.cacheType());
+            }
+
+            @Override
+            public Supplier<CacheManager> get(Context context) {
+                return () -> {
+                    Map<String, Cache> caches = new HashMap<>();
+                    for (String cacheName : context.cacheNames()) {
+                        caches.put(cacheName, newCache(cacheName, valueClasses));
+                    }
+                    return new CacheManagerImpl(caches);
+                };
+            }
+        };
+    }
+
+    private Cache newCache(String cacheName, Set<String> valueClasses) {
+        CouchbaseCachesConfig caches = config.getValue().cache();
+        CouchbaseCacheConfig defaults = caches.defaults();
+        CouchbaseCacheConfig cache = caches.caches().getOrDefault(cacheName, defaults);
+        String prefix = "quarkus.couchbase.cache.";
+
+        String clientName = cache.client().or(defaults::client).orElse(CouchbaseClient.DEFAULT_CLIENT_NAME);
+        Annotation[] qualifiers = CouchbaseRuntimeConfig.isDefaultClient(clientName)
+                ? new Annotation[0]
+                : new Annotation[] { new CouchbaseClient.Literal(clientName) };
+        MutinyCluster cluster = Arc.container().instance(MutinyCluster.class, qualifiers).get();
+
+        MutinyCollection collection;
+        Optional<String> keyspace = cache.keyspace().or(defaults::keyspace);
+        if (keyspace.isPresent()) {
+            String[] parts = keyspace.get().split("\\.");
+            if (parts.length != 3) {
+                throw new IllegalStateException(prefix + "keyspace must be bucket.scope.collection: " + keyspace.get());
+            }
+            collection = cluster.collection(parts[0], parts[1], parts[2]);
+        } else {
+            String bucketName = config.getValue().clients().get(clientName).bucketName().orElseThrow(
+                    () -> new IllegalStateException(prefix + "keyspace or the client's bucket-name is required"));
+            collection = cluster.collection(bucketName, CollectionIdentifier.DEFAULT_SCOPE,
+                    CollectionIdentifier.DEFAULT_COLLECTION);
+        }
+
+        Optional<Duration> expireAfterWrite = cache.expireAfterWrite().or(defaults::expireAfterWrite);
+        OptionalLong localMaximumSize = cache.localMaximumSize().isPresent()
+                ? cache.localMaximumSize()
+                : defaults.localMaximumSize();
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> local = null;
+        if (localMaximumSize.isPresent()) {
+            Caffeine<Object, Object> builder = Caffeine.newBuilder().maximumSize(localMaximumSize.getAsLong());
+            cache.localExpireAfterWrite().or(defaults::localExpireAfterWrite).or(() -> expireAfterWrite)
+                    .ifPresent(builder::expireAfterWrite);
+            local = builder.build();
+        }
+
+        List<String> allowedClasses = new ArrayList<>(valueClasses);
+        cache.allowedClasses().or(defaults::allowedClasses).ifPresent(allowedClasses::addAll);
+        CacheValueTranscoder transcoder = new CacheValueTranscoder(Thread.currentThread().getContextClassLoader(),
+                allowedClasses);
+
+        return new CouchbaseCache(cacheName, cluster, collection, transcoder, expireAfterWrite, local);
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.codec;
+
+/**
+ * Creates and accesses the properties of one DTO type without reflection. Implementations are generated at build time,
+ * with properties addressed by their index in the type's {@link CodecDefinition}.
+ */
+public interface BeanAccessor {
+
+    Object create();
+
+    Object get(Object bean, int index);
+
+    void set(Object bean, int index, Object value);
+}
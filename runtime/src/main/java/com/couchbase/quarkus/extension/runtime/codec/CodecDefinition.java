@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.codec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The build-time description of a DTO with a generated codec, recorded for runtime.
+ */
+public class CodecDefinition {
+
+    private String type;
+    private String accessor;
+    private List<Property> properties = new ArrayList<>();
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    /**
+     * @return the name of the generated {@link BeanAccessor} of the type.
+     */
+    public String getAccessor() {
+        return accessor;
+    }
+
+    public void setAccessor(String accessor) {
+        this.accessor = accessor;
+    }
+
+    /**
+     * @return the JSON properties of the type, in the order of the accessor's indexes.
+     */
+    public List<Property> getProperties() {
+        return properties;
+    }
+
+    public void setProperties(List<Property> properties) {
+        this.properties = properties;
+    }
+
+    public static class Property {
+
+        private String name;
+        private JsonKind kind;
+        private JsonKind elementKind;
+        private String target;
+        private boolean primitive;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public JsonKind getKind() {
+            return kind;
+        }
+
+        public void setKind(JsonKind kind) {
+            this.kind = kind;
+        }
+
+        /**
+         * @return the kind of the elements of a {@link JsonKind#LIST}, {@code null} otherwise.
+         */
+        public JsonKind getElementKind() {
+            return elementKind;
+        }
+
+        public void setElementKind(JsonKind elementKind) {
+            this.elementKind = elementKind;
+        }
+
+        /**
+         * @return the DTO type of an {@link JsonKind#OBJECT} property or of the elements of a list, {@code null} otherwise.
+         */
+        public String getTarget() {
+            return target;
+        }
+
+        public void setTarget(String target) {
+            this.target = target;
+        }
+
+        /**
+         * @return whether the Java type is primitive, in which case a JSON {@code null} leaves the default value.
+         */
+        public boolean isPrimitive() {
+            return primitive;
+        }
+
+        public void setPrimitive(boolean primitive) {
+            this.primitive = primitive;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import com.couchbase.client.core.deps.com.fasterxml.jackson.core.JsonFactory;
+import com.couchbase.client.core.deps.com.fasterxml.jackson.core.JsonGenerator;
+import com.couchbase.client.core.deps.com.fasterxml.jackson.core.JsonParser;
+import com.couchbase.client.core.error.DecodingFailureException;
+import com.couchbase.client.core.error.EncodingFailureException;
+import com.couchbase.client.java.codec.JsonSerializer;
+import com.couchbase.client.java.codec.TypeRef;
+
+/**
+ * A {@link JsonSerializer} that handles the DTOs with a build-time generated codec and delegates every other type to
+ * the serializer the SDK would have used.
+ */
+public final class CodecJsonSerializer implements JsonSerializer {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final Map<Class<?>, GeneratedJsonCodec> codecs;
+    private final JsonSerializer fallback;
+
+    CodecJsonSerializer(Map<Class<?>, GeneratedJsonCodec> codecs, JsonSerializer fallback) {
+        this.codecs = codecs;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public byte[] serialize(Object input) {
+        GeneratedJsonCodec codec = input == null ? null : codecs.get(input.getClass());
+        if (codec == null) {
+            return fallback.serialize(input);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+        try (JsonGenerator generator = FACTORY.createGenerator(out)) {
+            codec.write(generator, input);
+        } catch (IOException | RuntimeException e) {
+            throw new EncodingFailureException("Serializing of content " + input.getClass().getName() + " failed", e);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public <T> T deserialize(Class<T> target, byte[] input) {
+        GeneratedJsonCodec codec = codecs.get(target);
+        if (codec == null) {
+            return fallback.deserialize(target, input);
+        }
+        try (JsonParser parser = FACTORY.createParser(input)) {
+            parser.nextToken();
+            return target.cast(codec.read(parser));
+        } catch (IOException | RuntimeException e) {
+            throw new DecodingFailureException("Deserialization of content into target " + target.getName() + " failed", e);
+        }
+    }
+
+    @Override
+    public <T> T deserialize(TypeRef<T> target, byte[] input) {
+        return fallback.deserialize(target, input);
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.codec;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.couchbase.client.core.deps.com.fasterxml.jackson.core.JsonGenerator;
+import com.couchbase.client.core.deps.com.fasterxml.jackson.core.JsonParser;
+import com.couchbase.client.core.deps.com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Streams one DTO type to and from JSON through its generated {@link BeanAccessor}. Like Jackson does by default,
+ * reading fails on a property that is unknown to the type or on an object or array where a scalar is expected, and
+ * {@code null} values are written.
+ */
+final class GeneratedJsonCodec {
+
+    private final BeanAccessor accessor;
+    private final Property[] properties;
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private final Map<Class<?>, GeneratedJsonCodec> codecs;
+
+    GeneratedJsonCodec(BeanAccessor accessor, Property[] properties, Map<Class<?>, GeneratedJsonCodec> codecs) {
+        this.accessor = accessor;
+        this.properties = properties;
+        this.codecs = codecs;
+        for (int i = 0; i < properties.length; i++) {
+            indexes.put(properties[i].name(), i);
+        }
+    }
+
+    void write(JsonGenerator generator, Object bean) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < properties.length; i++) {
+            Property property = properties[i];
+            generator.writeFieldName(property.name());
+            writeValue(generator, property.kind(), property, accessor.get(bean, i));
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads the object the parser is positioned on, or returns {@code null} for a JSON {@code null}.
+     */
+    Object read(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, JsonToken.START_OBJECT);
+        Object bean = accessor.create();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            Integer index = indexes.get(parser.currentName());
+            if (index == null) {
+                throw new IOException("Unrecognized field \"" + parser.currentName() + "\" at " + parser.currentLocation());
+            }
+            parser.nextToken();
+            Property property = properties[index];
+            Object value = readValue(parser, property.kind(), property);
+            if (value != null || !property.primitive()) {
+                accessor.set(bean, index, value);
+            }
+        }
+        expect(parser, JsonToken.END_OBJECT);
+        return bean;
+    }
+
+    private void writeValue(JsonGenerator generator, JsonKind kind, Property property, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        switch (kind) {
+            case STRING -> generator.writeString((String) value);
+            case BOOLEAN -> generator.writeBoolean((Boolean) value);
+            case BYTE, SHORT, INT -> generator.writeNumber(((Number) value).intValue());
+            case LONG -> generator.writeNumber((Long) value);
+            case FLOAT -> generator.writeNumber((Float) value);
+            case DOUBLE -> generator.writeNumber((Double) value);
+            case OBJECT -> codec(property).write(generator, value);
+            case LIST -> {
+                generator.writeStartArray();
+                for (Object element : (List<?>) value) {
+                    writeValue(generator, property.elementKind(), property, element);
+                }
+                generator.writeEndArray();
+            }
+        }
+    }
+
+    private Object readValue(JsonParser parser, JsonKind kind, Property property) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (kind != JsonKind.OBJECT && kind != JsonKind.LIST && !parser.currentToken().isScalarValue()) {
+            // getValueAsString() would return null and leave the parser inside the nested value.
+            throw new IOException("Expected a " + kind + " value for \"" + property.name() + "\" but found "
+                    + parser.currentToken() + " at " + parser.currentLocation());
+        }
+        return switch (kind) {
+            case STRING -> parser.getValueAsString();
+            case BOOLEAN -> parser.getBooleanValue();
+            case BYTE -> parser.getByteValue();
+            case SHORT -> parser.getShortValue();
+            case INT -> parser.getIntValue();
+            case LONG -> parser.getLongValue();
+            case FLOAT -> parser.getFloatValue();
+            case DOUBLE -> parser.getDoubleValue();
+            case OBJECT -> codec(property).read(parser);
+            case LIST -> {
+                expect(parser, JsonToken.START_ARRAY);
+                List<Object> list = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    list.add(readValue(parser, property.elementKind(), property));
+                }
+                yield list;
+            }
+        };
+    }
+
+    private GeneratedJsonCodec codec(Property property) {
+        return codecs.get(property.target());
+    }
+
+    private static void expect(JsonParser parser, JsonToken token) throws IOException {
+        if (parser.currentToken() != token) {
+            throw new IOException("Expected " + token + " but found " + parser.currentToken() + " at "
+                    + parser.currentLocation());
+        }
+    }
+
+    /**
+     * A property of the DTO, {@code target} being the nested DTO type of an object or list property.
+     */
+    record Property(String name, JsonKind kind, JsonKind elementKind, Class<?> target, boolean primitive) {
+    }
+}
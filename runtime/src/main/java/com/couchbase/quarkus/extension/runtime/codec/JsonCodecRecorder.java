@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.codec;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.couchbase.client.java.codec.DefaultJsonSerializer;
+import com.couchbase.client.java.codec.JacksonJsonSerializer;
+import com.couchbase.client.java.codec.JsonSerializer;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+/**
+ * Registers the build-time generated JSON codecs so that {@link #serializer()} can install them in the cluster
+ * environments.
+ */
+@Recorder
+public class JsonCodecRecorder {
+
+    private static volatile Map<Class<?>, GeneratedJsonCodec> codecs = Map.of();
+
+    public void register(List<CodecDefinition> definitions) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Map<Class<?>, GeneratedJsonCodec> registered = new HashMap<>();
+        for (CodecDefinition definition : definitions) {
+            GeneratedJsonCodec.Property[] properties = new GeneratedJsonCodec.Property[definition.getProperties().size()];
+            for (int i = 0; i < properties.length; i++) {
+                CodecDefinition.Property property = definition.getProperties().get(i);
+                properties[i] = new GeneratedJsonCodec.Property(property.getName(), property.getKind(),
+                        property.getElementKind(),
+                        property.getTarget() == null ? null : load(property.getTarget(), classLoader),
+                        property.isPrimitive());
+            }
+            BeanAccessor accessor;
+            try {
+                accessor = (BeanAccessor) load(definition.getAccessor(), classLoader).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Unable to instantiate " + definition.getAccessor(), e);
+            }
+            registered.put(load(definition.getType(), classLoader),
+                    new GeneratedJsonCodec(accessor, properties, registered));
+        }
+        codecs = registered;
+    }
+
+    /**
+     * @return a serializer using the generated codecs, or empty if none were generated.
+     */
+    public static Optional<JsonSerializer> serializer() {
+        Map<Class<?>, GeneratedJsonCodec> current = codecs;
+        if (current.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new CodecJsonSerializer(current, defaultSerializer()));
+    }
+
+    /**
+     * Mirrors the SDK's own choice: Jackson when the application has it, the shaded Jackson otherwise.
+     */
+    private static JsonSerializer defaultSerializer() {
+        try {
+            Class.forName("com.fasterxml.jackson.databind.ObjectMapper");
+            return JacksonJsonSerializer.create();
+        } catch (ClassNotFoundException ignored) {
+            return DefaultJsonSerializer.create();
+        }
+    }
+
+    private static Class<?> load(String name, ClassLoader classLoader) {
+        try {
+            return Class.forName(name, false, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Unable to load " + name, e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.health;
+
+import java.time.Duration;
+
+import jakarta.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.health.Readiness;
+
+import com.couchbase.client.core.service.ServiceType;
+
+@Readiness
+@ApplicationScoped
+public class CouchbaseAnalyticsReadyCheck extends CouchbaseServiceReadyCheck {
+
+    public CouchbaseAnalyticsReadyCheck() {
+        super(ServiceType.ANALYTICS, "Couchbase Analytics Readiness Check");
+    }
+
+    @Override
+    Duration timeout() {
+        return config.analyticsHealthTimeout();
+    }
+}
@@ -20,8 +20,12 @@ import static com.couchbase.client.java.diagnostics.WaitUntilReadyOptions.waitUn
 import static java.util.Objects.requireNonNull;
 
 import java.time.Duration;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
 import jakarta.inject.Inject;
 
 import org.eclipse.microprofile.health.HealthCheckResponse;
@@ -31,6 +35,7 @@ import org.eclipse.microprofile.health.Readiness;
 import com.couchbase.client.core.Core;
 import com.couchbase.client.core.CoreContext;
 import com.couchbase.client.core.Reactor;
+import com.couchbase.client.core.config.ClusterConfig;
 import com.couchbase.client.core.config.ConfigVersion;
 import com.couchbase.client.core.msg.ResponseStatus;
 import com.couchbase.client.core.msg.kv.CarrierGlobalConfigRequest;
@@ -39,10 +44,13 @@ import com.couchbase.client.core.topology.ClusterTopology;
 import com.couchbase.client.core.topology.NodeIdentifier;
 import com.couchbase.client.java.Cluster;
 import com.couchbase.quarkus.extension.runtime.CouchbaseRuntimeConfig;
+import com.couchbase.quarkus.extension.runtime.warmup.CouchbaseWarmup;
 
+import io.quarkus.runtime.StartupEvent;
 import io.smallrye.health.api.AsyncHealthCheck;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.converters.uni.UniReactorConverters;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -50,27 +58,96 @@ import reactor.core.publisher.Mono;
 @ApplicationScoped
 public class CouchbaseReadyCheck implements AsyncHealthCheck {
 
+    private static final String NAME = "Couchbase Cluster Readiness Check";
+
     @Inject
     Cluster cluster;
 
     @Inject
     CouchbaseRuntimeConfig config;
 
+    @Inject
+    CouchbaseWarmup warmup;
+
+    private volatile ProbeResult lastResult;
+    private volatile Disposable background;
+
+    /**
+     * Starts probing in the background when {@code quarkus.couchbase.health.readiness.background.enabled} is set:
+     * at a fixed interval, and whenever a config with a different set of nodes arrives. Probes never overlap; a
+     * trigger that arrives while one is running is dropped.
+     */
+    void startBackgroundProbing(@Observes StartupEvent event) {
+        if (!config.readinessBackgroundEnabled()) {
+            return;
+        }
+        Flux<Set<NodeIdentifier>> topologyChanges = cluster.core().configurationProvider().configs()
+                .map(CouchbaseReadyCheck::nodeIds)
+                .distinctUntilChanged()
+                .skip(1);
+        background = Flux.merge(
+                Flux.interval(Duration.ZERO, config.readinessInterval(), cluster.environment().scheduler()),
+                topologyChanges)
+                .onBackpressureDrop()
+                .concatMap(trigger -> probe(), 1)
+                .subscribe(response -> lastResult = new ProbeResult(response, System.nanoTime()));
+    }
+
+    @PreDestroy
+    void stopBackgroundProbing() {
+        if (background != null) {
+            background.dispose();
+        }
+    }
+
     /**
-     * Wait for a Cluster config, then pings the GCCCP connections on each node.
+     * Wait for a Cluster config, then pings the GCCCP connections on each node. When background probing is enabled,
+     * returns the result of the last probe instead, or DOWN if it is older than the configured staleness. Reports DOWN
+     * while warmup is in progress.
      *
      * @return A HealthCheckResponse.
      */
     @Override
     public Uni<HealthCheckResponse> call() {
-        HealthCheckResponseBuilder builder = HealthCheckResponse.named("Couchbase Cluster Readiness Check");
-
-        return Uni.createFrom()
-                .converter(UniReactorConverters.fromMono(), quarkusWaitUntilReady(cluster))
-                .map(ignored -> builder.up().build())
-                .onFailure().recoverWithItem(throwable -> builder.down()
-                        .withData("error", throwable.getMessage())
-                        .build());
+        if (!warmup.isDone()) {
+            return Uni.createFrom().item(HealthCheckResponse.named(NAME).down()
+                    .withData("error", "Warmup is in progress")
+                    .build());
+        }
+        if (background != null) {
+            return Uni.createFrom().item(this::lastResponse);
+        }
+        return Uni.createFrom().converter(UniReactorConverters.fromMono(), probe());
+    }
+
+    private HealthCheckResponse lastResponse() {
+        ProbeResult result = lastResult;
+        if (result == null) {
+            return HealthCheckResponse.named(NAME).down().withData("error", "No readiness probe has completed yet").build();
+        }
+        Duration age = Duration.ofNanos(System.nanoTime() - result.completedAt());
+        if (age.compareTo(config.readinessMaxStaleness()) > 0) {
+            return HealthCheckResponse.named(NAME).down()
+                    .withData("error", "The last readiness probe completed " + age.toMillis() + "ms ago")
+                    .build();
+        }
+        return result.response();
+    }
+
+    private Mono<HealthCheckResponse> probe() {
+        HealthCheckResponseBuilder builder = HealthCheckResponse.named(NAME);
+        return quarkusWaitUntilReady(cluster)
+                .then(Mono.fromSupplier(() -> builder.up().build()))
+                .onErrorResume(throwable -> Mono.just(builder.down()
+                        .withData("error", String.valueOf(throwable.getMessage()))
+                        .build()));
+    }
+
+    private static Set<NodeIdentifier> nodeIds(ClusterConfig config) {
+        ClusterTopology topology = config.globalTopology();
+        return topology == null
+                ? Set.of()
+                : topology.nodes().stream().map(node -> node.id()).collect(Collectors.toSet());
     }
 
     public Mono<Void> quarkusWaitUntilReady(Cluster cluster) {
@@ -108,4 +185,7 @@ public class CouchbaseReadyCheck implements AsyncHealthCheck {
                     : Mono.error(new RuntimeException("Got unexpected response when pinging GCCCP: " + response));
         });
     }
+
+    private record ProbeResult(HealthCheckResponse response, long completedAt) {
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.health;
+
+import static com.couchbase.client.java.diagnostics.PingOptions.pingOptions;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import jakarta.inject.Inject;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.HealthCheckResponseBuilder;
+
+import com.couchbase.client.core.diagnostics.EndpointPingReport;
+import com.couchbase.client.core.diagnostics.PingResult;
+import com.couchbase.client.core.diagnostics.PingState;
+import com.couchbase.client.core.service.ServiceType;
+import com.couchbase.client.java.Cluster;
+import com.couchbase.client.java.diagnostics.PingOptions;
+import com.couchbase.quarkus.extension.runtime.CouchbaseClient;
+import com.couchbase.quarkus.extension.runtime.CouchbaseRuntimeConfig;
+
+import io.smallrye.health.api.AsyncHealthCheck;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.converters.uni.UniReactorConverters;
+import reactor.core.publisher.Mono;
+
+/**
+ * A readiness check of a single service that pings its endpoints and reports the state and latency of each.
+ * <p>
+ * The service is UP when at least one endpoint was pinged and every endpoint answered. Pings go through the bucket
+ * configured for health checks, or the default client's bucket, which is required for KV.
+ */
+abstract class CouchbaseServiceReadyCheck implements AsyncHealthCheck {
+
+    @Inject
+    Cluster cluster;
+
+    @Inject
+    CouchbaseRuntimeConfig config;
+
+    private final ServiceType service;
+    private final String name;
+
+    CouchbaseServiceReadyCheck(ServiceType service, String name) {
+        this.service = service;
+        this.name = name;
+    }
+
+    abstract Duration timeout();
+
+    @Override
+    public Uni<HealthCheckResponse> call() {
+        return Uni.createFrom().converter(UniReactorConverters.fromMono(), ping()
+                .map(this::toResponse)
+                .onErrorResume(throwable -> Mono.just(HealthCheckResponse.named(name).down()
+                        .withData("error", String.valueOf(throwable.getMessage()))
+                        .build())));
+    }
+
+    private Mono<PingResult> ping() {
+        PingOptions options = pingOptions().serviceTypes(Set.of(service)).timeout(timeout());
+        Optional<String> bucketName = config.healthBucketName()
+                .or(() -> config.clients().get(CouchbaseClient.DEFAULT_CLIENT_NAME).bucketName())
+                .filter(bucket -> !bucket.isBlank());
+        if (bucketName.isPresent()) {
+            return cluster.bucket(bucketName.get()).reactive().ping(options);
+        }
+        if (service == ServiceType.KV) {
+            return Mono.error(new IllegalStateException(
+                    "quarkus.couchbase.health.bucket-name or quarkus.couchbase.bucket-name is required to check KV"));
+        }
+        return cluster.reactive().ping(options);
+    }
+
+    private HealthCheckResponse toResponse(PingResult result) {
+        HealthCheckResponseBuilder builder = HealthCheckResponse.named(name);
+        List<EndpointPingReport> endpoints = result.endpoints().getOrDefault(service, List.of());
+        boolean up = !endpoints.isEmpty();
+        for (EndpointPingReport endpoint : endpoints) {
+            up &= endpoint.state() == PingState.OK;
+            builder.withData(endpoint.remote(), describe(endpoint));
+        }
+        if (endpoints.isEmpty()) {
+            builder.withData("error", "No " + service.ident() + " endpoint was pinged");
+        }
+        return builder.status(up).build();
+    }
+
+    private static String describe(EndpointPingReport endpoint) {
+        String report = endpoint.state() + " in " + endpoint.latency().toNanos() / 1000 + "us";
+        return endpoint.error().map(error -> report + ": " + error).orElse(report);
+    }
+}
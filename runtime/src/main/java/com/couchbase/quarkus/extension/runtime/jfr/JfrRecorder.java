@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.jfr;
+
+import com.couchbase.client.core.cnc.Event;
+import com.couchbase.client.core.cnc.events.endpoint.EndpointStateChangedEvent;
+import com.couchbase.client.core.cnc.events.request.RequestRetryScheduledEvent;
+import com.couchbase.client.core.env.CoreEnvironment;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+/**
+ * Enables the JFR events of {@code quarkus.couchbase.jfr.enabled}, which {@code CouchbaseRecorder} then installs in
+ * the cluster environments.
+ */
+@Recorder
+public class JfrRecorder {
+
+    private static volatile boolean enabled;
+
+    public void enable() {
+        enabled = true;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Records the retries and endpoint state changes published on the environment's event bus.
+     */
+    public static void subscribe(CoreEnvironment environment) {
+        environment.eventBus().subscribe(JfrRecorder::onEvent);
+    }
+
+    private static void onEvent(Event event) {
+        if (event instanceof RequestRetryScheduledEvent) {
+            RetryEvent retry = new RetryEvent();
+            if (retry.isEnabled()) {
+                retry.description = event.description();
+                retry.delay = event.duration().toNanos();
+                retry.commit();
+            }
+        } else if (event instanceof EndpointStateChangedEvent stateChange) {
+            EndpointStateChangeEvent endpoint = new EndpointStateChangeEvent();
+            if (endpoint.isEnabled()) {
+                endpoint.oldState = stateChange.oldState().toString();
+                endpoint.newState = stateChange.newState().toString();
+                endpoint.description = event.description();
+                endpoint.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.jfr;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import com.couchbase.client.core.cnc.RequestSpan;
+import com.couchbase.client.core.cnc.RequestTracer;
+import com.couchbase.client.core.cnc.tracing.NoopRequestSpan;
+import com.couchbase.client.core.error.TimeoutException;
+import com.couchbase.client.core.msg.RequestContext;
+
+import jdk.jfr.EventType;
+import reactor.core.publisher.Mono;
+
+/**
+ * A {@link RequestTracer} that turns the top-level span of each SDK operation into a JFR event, and forwards every
+ * span to an optional delegate tracer. Nothing is allocated for JFR when none of the operation events is enabled in
+ * the running recordings, and the spans of the SDK's internal steps, such as dispatching to a node, are not recorded.
+ */
+public final class JfrRequestTracer implements RequestTracer {
+
+    private static final Set<String> KV_OPERATIONS = Set.of("get", "get_and_lock", "get_and_touch", "get_all_replicas",
+            "get_any_replica", "get_replica", "exists", "insert", "upsert", "replace", "remove", "touch", "unlock",
+            "lookup_in", "lookup_in_all_replicas", "lookup_in_any_replica", "mutate_in", "append", "prepend",
+            "increment", "decrement");
+
+    private final RequestTracer delegate;
+    private final EventType kvType = EventType.getEventType(KvOperationEvent.class);
+    private final EventType queryType = EventType.getEventType(QueryEvent.class);
+    private final EventType searchType = EventType.getEventType(SearchEvent.class);
+    private final EventType operationType = EventType.getEventType(OperationEvent.class);
+    private final EventType timeoutType = EventType.getEventType(TimeoutEvent.class);
+
+    /**
+     * @param delegate the tracer also receiving the spans, or {@code null}.
+     */
+    public JfrRequestTracer(RequestTracer delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public RequestSpan requestSpan(String name, RequestSpan parent) {
+        RequestSpan delegateParent = parent instanceof JfrSpan jfrParent ? jfrParent.delegate : parent;
+        RequestSpan delegateSpan = delegate == null ? NoopRequestSpan.INSTANCE : delegate.requestSpan(name, delegateParent);
+        if (parent instanceof JfrSpan) {
+            return delegateSpan;
+        }
+        AbstractOperationEvent event = newEvent(name);
+        boolean timeoutEnabled = timeoutType.isEnabled();
+        if (event == null && !timeoutEnabled) {
+            return delegateSpan;
+        }
+        return new JfrSpan(name, event, timeoutEnabled, delegateSpan);
+    }
+
+    private AbstractOperationEvent newEvent(String name) {
+        if (name.equals("query")) {
+            return queryType.isEnabled() ? new QueryEvent() : null;
+        } else if (name.equals("search")) {
+            return searchType.isEnabled() ? new SearchEvent() : null;
+        } else if (KV_OPERATIONS.contains(name)) {
+            return kvType.isEnabled() ? new KvOperationEvent() : null;
+        }
+        return operationType.isEnabled() ? new OperationEvent() : null;
+    }
+
+    @Override
+    public Mono<Void> start() {
+        return delegate == null ? Mono.empty() : delegate.start();
+    }
+
+    @Override
+    public Mono<Void> stop(Duration timeout) {
+        return delegate == null ? Mono.empty() : delegate.stop(timeout);
+    }
+
+    private static final class JfrSpan implements RequestSpan {
+
+        private final RequestSpan delegate;
+        private final AbstractOperationEvent event;
+        private final TimeoutEvent timeout;
+        private Throwable failure;
+
+        JfrSpan(String name, AbstractOperationEvent event, boolean timeoutEnabled, RequestSpan delegate) {
+            this.delegate = delegate;
+            this.event = event;
+            // Created up front so that its duration covers the operation; only committed if the operation timed out.
+            this.timeout = timeoutEnabled ? new TimeoutEvent() : null;
+            if (timeout != null) {
+                timeout.operation = name;
+                timeout.begin();
+            }
+            if (event != null) {
+                event.operation = name;
+                event.outcome = "Success";
+                event.begin();
+            }
+        }
+
+        @Override
+        public void attribute(String key, String value) {
+            if (event != null) {
+                switch (key) {
+                    case "db.name", "db.namespace" -> event.bucket = value;
+                    case "db.couchbase.scope", "couchbase.scope.name" -> event.scope = value;
+                    case "db.couchbase.collection", "couchbase.collection.name" -> event.collection = value;
+                    case "db.couchbase.service", "couchbase.service" -> {
+                        if (event instanceof OperationEvent operation) {
+                            operation.service = value;
+                        }
+                    }
+                    case "db.statement", "db.query.text" -> {
+                        if (event instanceof QueryEvent query) {
+                            query.statement = value;
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+            delegate.attribute(key, value);
+        }
+
+        @Override
+        public void attribute(String key, boolean value) {
+            delegate.attribute(key, value);
+        }
+
+        @Override
+        public void attribute(String key, long value) {
+            if (event != null && (key.equals("db.couchbase.retries") || key.equals("couchbase.retries"))) {
+                event.retries = value;
+            }
+            delegate.attribute(key, value);
+        }
+
+        @Override
+        public void event(String name, Instant timestamp) {
+            delegate.event(name, timestamp);
+        }
+
+        @Override
+        public void status(StatusCode status) {
+            if (event != null && status == StatusCode.ERROR && failure == null) {
+                event.outcome = "Error";
+            }
+            delegate.status(status);
+        }
+
+        @Override
+        public void recordException(Throwable err) {
+            failure = err;
+            if (event != null) {
+                event.outcome = err.getClass().getSimpleName();
+            }
+            delegate.recordException(err);
+        }
+
+        @Override
+        public void end() {
+            if (event != null && event.shouldCommit()) {
+                event.commit();
+            }
+            if (timeout != null && failure instanceof TimeoutException && timeout.shouldCommit()) {
+                timeout.exception = failure.getClass().getSimpleName();
+                timeout.commit();
+            }
+            delegate.end();
+        }
+
+        @Override
+        public void requestContext(RequestContext requestContext) {
+            delegate.requestContext(requestContext);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.kv;
+
+import static com.couchbase.client.java.AsyncUtils.block;
+import static com.couchbase.client.java.kv.ExistsOptions.existsOptions;
+import static com.couchbase.client.java.kv.GetAndTouchOptions.getAndTouchOptions;
+import static com.couchbase.client.java.kv.InsertOptions.insertOptions;
+import static com.couchbase.client.java.kv.LookupInOptions.lookupInOptions;
+import static com.couchbase.client.java.kv.MutateInOptions.mutateInOptions;
+import static com.couchbase.client.java.kv.RemoveOptions.removeOptions;
+import static com.couchbase.client.java.kv.ReplaceOptions.replaceOptions;
+import static com.couchbase.client.java.kv.TouchOptions.touchOptions;
+import static com.couchbase.client.java.kv.UpsertOptions.upsertOptions;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.couchbase.client.java.AsyncCollection;
+import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.kv.ExistsOptions;
+import com.couchbase.client.java.kv.ExistsResult;
+import com.couchbase.client.java.kv.GetAndTouchOptions;
+import com.couchbase.client.java.kv.GetAnyReplicaOptions;
+import com.couchbase.client.java.kv.GetOptions;
+import com.couchbase.client.java.kv.GetReplicaResult;
+import com.couchbase.client.java.kv.GetResult;
+import com.couchbase.client.java.kv.InsertOptions;
+import com.couchbase.client.java.kv.LookupInOptions;
+import com.couchbase.client.java.kv.LookupInResult;
+import com.couchbase.client.java.kv.LookupInSpec;
+import com.couchbase.client.java.kv.MutateInOptions;
+import com.couchbase.client.java.kv.MutateInResult;
+import com.couchbase.client.java.kv.MutateInSpec;
+import com.couchbase.client.java.kv.MutationResult;
+import com.couchbase.client.java.kv.RemoveOptions;
+import com.couchbase.client.java.kv.ReplaceOptions;
+import com.couchbase.client.java.kv.TouchOptions;
+import com.couchbase.client.java.kv.UpsertOptions;
+
+/**
+ * A blocking view of a collection for code running on virtual threads, for example endpoints annotated with
+ * {@code @RunOnVirtualThread}.
+ * <p>
+ * Each operation waits on the SDK's {@link java.util.concurrent.CompletableFuture}, which parks the calling thread
+ * with {@link java.util.concurrent.locks.LockSupport}: a virtual thread unmounts from its carrier while it waits, and
+ * no monitor is held on the way, so the carrier is never pinned. Failures are rethrown as the SDK's blocking API
+ * does, without the {@code CompletionException} wrapper.
+ * <p>
+ * Unlike the SDK's {@link Collection}, {@link #get(String)} goes through the collection's {@link KvPipeline}, so near
+ * cache hits return without waiting at all and concurrent gets of a document share one request when coalescing is
+ * enabled.
+ */
+public class BlockingCollection {
+
+    private final Collection collection;
+    private final AsyncCollection async;
+    private final KvPipeline pipeline;
+
+    public BlockingCollection(Collection collection, KvPipeline pipeline) {
+        this.collection = collection;
+        this.async = collection.async();
+        this.pipeline = pipeline;
+    }
+
+    /**
+     * @return the SDK {@link Collection} this view is built on.
+     */
+    public Collection collection() {
+        return collection;
+    }
+
+    public GetResult get(String id) {
+        return block(pipeline.get(id));
+    }
+
+    public GetResult get(String id, GetOptions options) {
+        return block(pipeline.send("get", id, () -> async.get(id, options)));
+    }
+
+    public GetReplicaResult getAnyReplica(String id) {
+        return block(pipeline.getAnyReplica(id));
+    }
+
+    public GetReplicaResult getAnyReplica(String id, GetAnyReplicaOptions options) {
+        return block(pipeline.getAnyReplica(id, options));
+    }
+
+    public GetResult getAndTouch(String id, Duration expiry) {
+        return getAndTouch(id, expiry, getAndTouchOptions());
+    }
+
+    public GetResult getAndTouch(String id, Duration expiry, GetAndTouchOptions options) {
+        return block(pipeline.write("get_and_touch", id, () -> async.getAndTouch(id, expiry, options)));
+    }
+
+    public ExistsResult exists(String id) {
+        return exists(id, existsOptions());
+    }
+
+    public ExistsResult exists(String id, ExistsOptions options) {
+        return block(pipeline.send("exists", id, () -> async.exists(id, options)));
+    }
+
+    public MutationResult insert(String id, Object content) {
+        return insert(id, content, insertOptions());
+    }
+
+    public MutationResult insert(String id, Object content, InsertOptions options) {
+        return block(pipeline.write("insert", id, () -> async.insert(id, content, options)));
+    }
+
+    public MutationResult upsert(String id, Object content) {
+        return upsert(id, content, upsertOptions());
+    }
+
+    public MutationResult upsert(String id, Object content, UpsertOptions options) {
+        return block(pipeline.write("upsert", id, () -> async.upsert(id, content, options)));
+    }
+
+    public MutationResult replace(String id, Object content) {
+        return replace(id, content, replaceOptions());
+    }
+
+    public MutationResult replace(String id, Object content, ReplaceOptions options) {
+        return block(pipeline.write("replace", id, () -> async.replace(id, content, options)));
+    }
+
+    public MutationResult remove(String id) {
+        return remove(id, removeOptions());
+    }
+
+    public MutationResult remove(String id, RemoveOptions options) {
+        return block(pipeline.write("remove", id, () -> async.remove(id, options)));
+    }
+
+    public MutationResult touch(String id, Duration expiry) {
+        return touch(id, expiry, touchOptions());
+    }
+
+    public MutationResult touch(String id, Duration expiry, TouchOptions options) {
+        return block(pipeline.write("touch", id, () -> async.touch(id, expiry, options)));
+    }
+
+    public LookupInResult lookupIn(String id, List<LookupInSpec> specs) {
+        return lookupIn(id, specs, lookupInOptions());
+    }
+
+    public LookupInResult lookupIn(String id, List<LookupInSpec> specs, LookupInOptions options) {
+        return block(pipeline.send("lookup_in", id, () -> async.lookupIn(id, specs, options)));
+    }
+
+    public MutateInResult mutateIn(String id, List<MutateInSpec> specs) {
+        return mutateIn(id, specs, mutateInOptions());
+    }
+
+    public MutateInResult mutateIn(String id, List<MutateInSpec> specs, MutateInOptions options) {
+        return block(pipeline.write("mutate_in", id, () -> async.mutateIn(id, specs, options)));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.kv;
+
+/**
+ * The outcome of one document in a bulk operation: either a result or the failure of that document alone.
+ *
+ * @param <T> the result type of the operation.
+ */
+public final class BulkResult<T> {
+
+    private final String id;
+    private final T result;
+    private final Throwable failure;
+
+    private BulkResult(String id, T result, Throwable failure) {
+        this.id = id;
+        this.result = result;
+        this.failure = failure;
+    }
+
+    public static <T> BulkResult<T> success(String id, T result) {
+        return new BulkResult<>(id, result, null);
+    }
+
+    public static <T> BulkResult<T> failure(String id, Throwable failure) {
+        return new BulkResult<>(id, null, failure);
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public boolean succeeded() {
+        return failure == null;
+    }
+
+    /**
+     * @return the result, or {@code null} if the operation failed for this document.
+     */
+    public T result() {
+        return result;
+    }
+
+    /**
+     * @return the failure, or {@code null} if the operation succeeded for this document.
+     */
+    public Throwable failure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkResult{id=" + id + (failure == null ? ", result=" + result : ", failure=" + failure) + "}";
+    }
+}
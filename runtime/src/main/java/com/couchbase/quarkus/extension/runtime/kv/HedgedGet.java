@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.kv;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import com.couchbase.client.core.Timer;
+import com.couchbase.client.core.deps.io.netty.util.Timeout;
+import com.couchbase.client.core.error.TimeoutException;
+import com.couchbase.client.java.kv.GetReplicaResult;
+import com.couchbase.client.java.kv.GetResult;
+import com.couchbase.quarkus.extension.runtime.CouchbaseCollectionConfig.HedgingConfig;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Hedges gets that are slow to be answered by the active copy with a read from a replica, and completes with
+ * whichever copy answers first.
+ * <p>
+ * The hedge is sent once a get has been in flight for longer than the configured percentile of recent get latencies,
+ * so only the slowest gets are hedged. The replica is read by the caller's replica loader, which prefers the local
+ * server group, see {@link ServerGroupRouting}. A budget, credited by every get, caps hedges at a percentage of gets,
+ * so hedging cannot snowball when the whole cluster is slow.
+ * <p>
+ * A replica may not have seen the latest write yet, so a hedged get can return a slightly stale document. A failure
+ * of the active copy is final, unless it is a timeout and the hedge is still in flight.
+ */
+public final class HedgedGet {
+
+    private static final int WINDOW_SIZE = 1000;
+    private static final long HEDGE_COST = 1000;
+    private static final long MAX_CREDITS = 10 * HEDGE_COST;
+
+    private final Timer timer;
+    private final LatencyPercentile latencies;
+    private final long minDelayNanos;
+    private final long creditPerGet;
+    private final AtomicLong credits = new AtomicLong();
+    private final Counter sent;
+    private final Counter won;
+
+    /**
+     * @param timer the timer hedges are scheduled on.
+     * @param registry the registry to publish hedge counts to, or {@code null} to disable them.
+     */
+    public HedgedGet(String keyspace, Timer timer, HedgingConfig config, MeterRegistry registry) {
+        if (config.percentile() <= 0 || config.percentile() >= 1) {
+            throw new IllegalArgumentException("The hedging percentile of " + keyspace + " must be between 0 and 1, was "
+                    + config.percentile());
+        }
+        if (config.maxExtraLoad() < 0 || config.maxExtraLoad() > 100) {
+            throw new IllegalArgumentException("The hedging max-extra-load of " + keyspace
+                    + " must be a percentage between 0 and 100, was " + config.maxExtraLoad());
+        }
+        this.timer = timer;
+        this.latencies = new LatencyPercentile(config.percentile(), WINDOW_SIZE);
+        this.minDelayNanos = config.minDelay().toNanos();
+        this.creditPerGet = Math.round(config.maxExtraLoad() * HEDGE_COST / 100);
+
+        if (registry == null) {
+            this.sent = null;
+            this.won = null;
+        } else {
+            this.sent = Counter.builder("couchbase.kv.hedges.sent")
+                    .description("Replica reads sent because the active copy was slow to answer a get")
+                    .tag("keyspace", keyspace)
+                    .register(registry);
+            this.won = Counter.builder("couchbase.kv.hedges.won")
+                    .description("Gets answered by a replica read before the active copy")
+                    .tag("keyspace", keyspace)
+                    .register(registry);
+        }
+    }
+
+    public CompletableFuture<GetResult> get(String id, Function<String, CompletableFuture<GetResult>> loader,
+            Function<String, CompletableFuture<GetReplicaResult>> replicaLoader) {
+        credits.accumulateAndGet(creditPerGet, (current, credit) -> Math.min(MAX_CREDITS, current + credit));
+        long start = System.nanoTime();
+        CompletableFuture<GetResult> primary;
+        try {
+            primary = loader.apply(id);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long estimate = latencies.estimateNanos();
+        if (estimate < 0) {
+            return primary.whenComplete((result, failure) -> latencies.record(System.nanoTime() - start));
+        }
+        Attempt attempt = new Attempt(id, replicaLoader);
+        Timeout hedge = timer.schedule(() -> attempt.hedge(primary), Duration.ofNanos(Math.max(minDelayNanos, estimate)));
+        primary.whenComplete((result, failure) -> {
+            hedge.cancel();
+            latencies.record(System.nanoTime() - start);
+            attempt.primaryCompleted(result, failure);
+        });
+        return attempt.result;
+    }
+
+    private boolean withdrawCredit() {
+        long current;
+        do {
+            current = credits.get();
+            if (current < HEDGE_COST) {
+                return false;
+            }
+        } while (!credits.compareAndSet(current, current - HEDGE_COST));
+        return true;
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    private final class Attempt {
+        final String id;
+        final Function<String, CompletableFuture<GetReplicaResult>> replicaLoader;
+        final CompletableFuture<GetResult> result = new CompletableFuture<>();
+        // Guarded by this.
+        boolean hedging;
+        Throwable primaryFailure;
+
+        Attempt(String id, Function<String, CompletableFuture<GetReplicaResult>> replicaLoader) {
+            this.id = id;
+            this.replicaLoader = replicaLoader;
+        }
+
+        void hedge(CompletableFuture<GetResult> primary) {
+            synchronized (this) {
+                if (primary.isDone() || !withdrawCredit()) {
+                    return;
+                }
+                hedging = true;
+            }
+            if (sent != null) {
+                sent.increment();
+            }
+            CompletableFuture<GetReplicaResult> replica;
+            try {
+                replica = replicaLoader.apply(id);
+            } catch (RuntimeException e) {
+                replica = CompletableFuture.failedFuture(e);
+            }
+            replica.whenComplete(this::hedgeCompleted);
+        }
+
+        void primaryCompleted(GetResult value, Throwable failure) {
+            if (failure == null) {
+                result.complete(value);
+                return;
+            }
+            synchronized (this) {
+                if (hedging && unwrap(failure) instanceof TimeoutException) {
+                    primaryFailure = failure;
+                    return;
+                }
+            }
+            result.completeExceptionally(unwrap(failure));
+        }
+
+        void hedgeCompleted(GetResult value, Throwable failure) {
+            if (failure == null) {
+                if (result.complete(value) && won != null) {
+                    won.increment();
+                }
+                return;
+            }
+            Throwable primary;
+            synchronized (this) {
+                hedging = false;
+                primary = primaryFailure;
+            }
+            if (primary != null) {
+                result.completeExceptionally(unwrap(primary));
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.kv;
+
+import static com.couchbase.client.java.kv.GetAnyReplicaOptions.getAnyReplicaOptions;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.couchbase.client.java.AsyncCollection;
+import com.couchbase.client.java.kv.ExistsResult;
+import com.couchbase.client.java.kv.GetAnyReplicaOptions;
+import com.couchbase.client.java.kv.GetReplicaResult;
+import com.couchbase.client.java.kv.GetResult;
+import com.couchbase.quarkus.extension.runtime.CouchbaseCollectionConfig;
+import com.couchbase.quarkus.extension.runtime.limit.ConcurrencyLimiter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The KV read and write path of one collection, shared by the extension's collection beans.
+ * <p>
+ * Plain gets go through the features enabled for the collection, outermost first: the {@link NearCache}, then
+ * {@link SingleFlight} coalescing, then {@link HedgedGet} hedging, then the SDK. Writes keep the near cache and
+ * coalescing consistent with what was written. Every request that reaches the SDK goes through the client's KV
+ * {@link ConcurrencyLimiter}; near cache hits and coalesced gets do not take a slot. When the client has a preferred
+ * server group, requests are counted and replica reads routed by the collection's {@link ServerGroupRouting}.
+ */
+public final class KvPipeline {
+
+    private final AsyncCollection async;
+    private final NearCache nearCache;
+    private final SingleFlight singleFlight;
+    private final ServerGroupRouting routing;
+    private final ConcurrencyLimiter limiter;
+    private final Function<String, CompletableFuture<GetResult>> reader;
+
+    /**
+     * @param nearCache the near cache, or {@code null} if disabled.
+     * @param singleFlight the get coalescer, or {@code null} if disabled.
+     * @param hedging the get hedger, or {@code null} if disabled.
+     * @param routing the server group routing, or {@code null} if the client has no preferred server group.
+     */
+    public KvPipeline(AsyncCollection async, NearCache nearCache, SingleFlight singleFlight, HedgedGet hedging,
+            ServerGroupRouting routing, ConcurrencyLimiter limiter) {
+        this.async = async;
+        this.nearCache = nearCache;
+        this.singleFlight = singleFlight;
+        this.routing = routing;
+        this.limiter = limiter;
+
+        Function<String, CompletableFuture<GetResult>> reader = id -> send("get", id, () -> async.get(id));
+        if (hedging != null) {
+            Function<String, CompletableFuture<GetResult>> active = reader;
+            reader = id -> hedging.get(id, active, this::getAnyReplica);
+        }
+        if (singleFlight != null) {
+            Function<String, CompletableFuture<GetResult>> direct = reader;
+            reader = id -> singleFlight.get(id, direct);
+        }
+        if (nearCache != null) {
+            Function<String, CompletableFuture<GetResult>> loader = reader;
+            Function<String, CompletableFuture<ExistsResult>> exists = id -> send("exists", id, () -> async.exists(id));
+            reader = id -> nearCache.get(id, loader, exists);
+        }
+        this.reader = reader;
+    }
+
+    /**
+     * Builds the pipeline of a collection from its configuration.
+     *
+     * @param config the collection's settings, or {@code null} if it has none.
+     * @param limiter the client's KV limiter.
+     * @param registry the registry to publish metrics to, or {@code null} to disable them.
+     */
+    public static KvPipeline create(String keyspace, AsyncCollection async, CouchbaseCollectionConfig config,
+            ConcurrencyLimiter limiter, MeterRegistry registry) {
+        String serverGroup = async.environment().preferredServerGroup();
+        ServerGroupRouting routing = serverGroup == null ? null
+                : new ServerGroupRouting(keyspace, serverGroup, new PartitionLocator(async.core(), async.bucketName()),
+                        registry);
+        if (config == null) {
+            return new KvPipeline(async, null, null, null, routing, limiter);
+        }
+        return new KvPipeline(async,
+                config.nearCache().enabled() ? new NearCache(keyspace, config.nearCache(), registry) : null,
+                config.coalescing().enabled() ? new SingleFlight(keyspace, registry) : null,
+                config.hedging().enabled()
+                        ? new HedgedGet(keyspace, async.environment().timer(), config.hedging(), registry)
+                        : null,
+                routing,
+                limiter);
+    }
+
+    public AsyncCollection async() {
+        return async;
+    }
+
+    /**
+     * Fetches a document with default options through the enabled read features.
+     */
+    public CompletableFuture<GetResult> get(String id) {
+        return reader.apply(id);
+    }
+
+    /**
+     * Reads a document from a replica in the preferred server group when the client has one, and from any copy
+     * otherwise.
+     */
+    public CompletableFuture<GetReplicaResult> getAnyReplica(String id) {
+        if (routing == null) {
+            return getAnyReplica(id, getAnyReplicaOptions());
+        }
+        return routing.getAnyReplica(id, options -> getAnyReplica(id, options));
+    }
+
+    /**
+     * Reads a document from a replica with the given options, which are not changed.
+     */
+    public CompletableFuture<GetReplicaResult> getAnyReplica(String id, GetAnyReplicaOptions options) {
+        return limiter.execute(() -> async.getAnyReplica(id, options));
+    }
+
+    /**
+     * Runs a write of the given document. The document is dropped from the near cache before the write is sent and
+     * again once it completes, so a read that raced with the write cannot leave the old version cached, and later gets
+     * do not join a get that was in flight before the write.
+     */
+    public <T> CompletableFuture<T> write(String operation, String id, Supplier<CompletableFuture<T>> write) {
+        if (nearCache == null && singleFlight == null) {
+            return send(operation, id, write);
+        }
+        invalidate(id);
+        return send(operation, id, write).whenComplete((result, failure) -> invalidate(id));
+    }
+
+    /**
+     * Sends any other request to the active copy of a document, which bypasses the near cache and coalescing, through
+     * the KV limiter.
+     *
+     * @param operation the name the request is counted under in the server group metrics.
+     */
+    public <T> CompletableFuture<T> send(String operation, String id, Supplier<CompletableFuture<T>> request) {
+        if (routing != null) {
+            routing.recordActive(operation, id);
+        }
+        return limiter.execute(request);
+    }
+
+    private void invalidate(String id) {
+        if (nearCache != null) {
+            nearCache.invalidate(id);
+        }
+        if (singleFlight != null) {
+            singleFlight.forget(id);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.kv;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Estimates a latency percentile over consecutive windows of samples, with buckets about 25% wide.
+ * <p>
+ * Samples are counted in log-linear buckets of microseconds. Once a window is full, the percentile of its samples is
+ * published and the counts are cleared. Samples recorded while the counts are cleared may be lost, which is fine for
+ * an estimate.
+ */
+final class LatencyPercentile {
+
+    private static final int SUB_BUCKETS = 4;
+    private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+    private final double percentile;
+    private final int windowSize;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicInteger samples = new AtomicInteger();
+    private volatile long estimateNanos = -1;
+
+    LatencyPercentile(double percentile, int windowSize) {
+        this.percentile = percentile;
+        this.windowSize = windowSize;
+    }
+
+    void record(long nanos) {
+        counts.incrementAndGet(bucket(Math.max(0, nanos / 1000)));
+        if (samples.incrementAndGet() == windowSize) {
+            estimateNanos = percentileMicros() * 1000;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts.set(i, 0);
+            }
+            samples.set(0);
+        }
+    }
+
+    /**
+     * @return the percentile of the last complete window in nanoseconds, or {@code -1} before a window has completed.
+     */
+    long estimateNanos() {
+        return estimateNanos;
+    }
+
+    private long percentileMicros() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        long rank = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return upperBound(i);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    private static int bucket(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int sub = (int) (micros >>> (exponent - 2)) & (SUB_BUCKETS - 1);
+        return exponent * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS;
+        int sub = bucket % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + sub + 1) << (exponent - 2)) - 1;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.kv;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import com.couchbase.client.java.kv.ExistsResult;
+import com.couchbase.client.java.kv.GetResult;
+import com.couchbase.quarkus.extension.runtime.CouchbaseCollectionConfig.NearCacheConfig;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * An in-process cache of {@link GetResult}s for one collection.
+ * <p>
+ * Loads are stored as futures, so concurrent misses for the same document share a single fetch, and an invalidation
+ * also discards a fetch that is still in flight. Documents older than the configured revalidation age are checked
+ * against the server's CAS, which is fetched without the document body, before they are served.
+ */
+public final class NearCache {
+
+    private final AsyncCache<String, Entry> cache;
+    private final long revalidateAfterNanos;
+    private final Counter unchanged;
+    private final Counter changed;
+
+    /**
+     * @param registry the registry to publish hit, miss and revalidation metrics to, or {@code null} to disable them.
+     */
+    public NearCache(String keyspace, NearCacheConfig config, MeterRegistry registry) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(config.maxSize())
+                .expireAfterWrite(config.ttl());
+        if (registry != null) {
+            builder.recordStats();
+        }
+        this.cache = builder.buildAsync();
+        this.revalidateAfterNanos = config.revalidateAfter().map(Duration::toNanos).orElse(0L);
+
+        if (registry != null) {
+            CaffeineCacheMetrics.monitor(registry, cache.synchronous(), "couchbase.near-cache." + keyspace);
+            this.unchanged = Counter.builder("couchbase.near-cache.revalidations")
+                    .tag("keyspace", keyspace)
+                    .tag("result", "unchanged")
+                    .register(registry);
+            this.changed = Counter.builder("couchbase.near-cache.revalidations")
+                    .tag("keyspace", keyspace)
+                    .tag("result", "changed")
+                    .register(registry);
+        } else {
+            this.unchanged = null;
+            this.changed = null;
+        }
+    }
+
+    /**
+     * Returns the cached document, fetching it with {@code loader} on a miss.
+     *
+     * @param casLoader fetches the current CAS of a document, used to revalidate old entries.
+     */
+    public CompletableFuture<GetResult> get(String id, Function<String, CompletableFuture<GetResult>> loader,
+            Function<String, CompletableFuture<ExistsResult>> casLoader) {
+        CompletableFuture<Entry> future = cache.get(id,
+                (key, executor) -> loader.apply(key).thenApply(result -> new Entry(result, System.nanoTime())));
+        return future.thenCompose(entry -> {
+            if (revalidateAfterNanos <= 0 || System.nanoTime() - entry.loadedAt() < revalidateAfterNanos) {
+                return CompletableFuture.completedFuture(entry.result());
+            }
+            return revalidate(id, future, entry, loader, casLoader);
+        });
+    }
+
+    /**
+     * Drops the cached document, including a fetch of it that is still in flight.
+     */
+    public void invalidate(String id) {
+        cache.synchronous().invalidate(id);
+    }
+
+    private CompletableFuture<GetResult> revalidate(String id, CompletableFuture<Entry> future, Entry entry,
+            Function<String, CompletableFuture<GetResult>> loader,
+            Function<String, CompletableFuture<ExistsResult>> casLoader) {
+        return casLoader.apply(id).thenCompose(exists -> {
+            if (exists.exists() && exists.cas() == entry.result().cas()) {
+                increment(unchanged);
+                // Only refresh if the entry was not invalidated or replaced in the meantime
+                Entry refreshed = new Entry(entry.result(), System.nanoTime());
+                cache.asMap().replace(id, future, CompletableFuture.completedFuture(refreshed));
+                return CompletableFuture.completedFuture(entry.result());
+            }
+            increment(changed);
+            cache.asMap().remove(id, future);
+            return get(id, loader, casLoader);
+        });
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private record Entry(GetResult result, long loadedAt) {
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.kv;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.couchbase.client.core.Core;
+import com.couchbase.client.core.config.BucketConfig;
+import com.couchbase.client.core.config.CouchbaseBucketConfig;
+import com.couchbase.client.core.node.KeyValueLocator;
+
+/**
+ * Maps document IDs to the node holding their active copy, using the bucket's current partition map.
+ */
+public final class PartitionLocator {
+
+    /**
+     * The node index used when the partition map of the bucket is not known yet.
+     */
+    public static final int UNKNOWN_NODE = -1;
+
+    private final Core core;
+    private final String bucketName;
+
+    public PartitionLocator(Core core, String bucketName) {
+        this.core = core;
+        this.bucketName = bucketName;
+    }
+
+    /**
+     * Groups IDs by the index of the node holding their active copy, keeping the order of the IDs within a group.
+     * All IDs land in {@link #UNKNOWN_NODE} if the bucket config has not been loaded.
+     */
+    public Map<Integer, List<String>> groupByActiveNode(Iterable<String> ids) {
+        CouchbaseBucketConfig config = couchbaseBucketConfig();
+        Map<Integer, List<String>> groups = new LinkedHashMap<>();
+        for (String id : ids) {
+            int node = config == null ? UNKNOWN_NODE : activeNodeIndex(config, id);
+            groups.computeIfAbsent(node, ignored -> new ArrayList<>()).add(id);
+        }
+        return groups;
+    }
+
+    CouchbaseBucketConfig couchbaseBucketConfig() {
+        BucketConfig config = core.configurationProvider().config().bucketConfig(bucketName);
+        return config instanceof CouchbaseBucketConfig ? (CouchbaseBucketConfig) config : null;
+    }
+
+    static int activeNodeIndex(CouchbaseBucketConfig config, String id) {
+        int partition = KeyValueLocator.partitionForKey(id.getBytes(UTF_8), config.numberOfPartitions());
+        return config.nodeIndexForActive(partition, false);
+    }
+}
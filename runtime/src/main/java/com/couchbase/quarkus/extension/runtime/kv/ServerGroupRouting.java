@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.kv;
+
+import static com.couchbase.client.java.kv.GetAnyReplicaOptions.getAnyReplicaOptions;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import com.couchbase.client.core.config.CouchbaseBucketConfig;
+import com.couchbase.client.core.config.NodeInfo;
+import com.couchbase.client.core.error.DocumentUnretrievableException;
+import com.couchbase.client.java.kv.GetAnyReplicaOptions;
+import com.couchbase.client.java.kv.GetReplicaResult;
+import com.couchbase.client.java.kv.ReadPreference;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Keeps the KV reads of one collection in the client's preferred server group, and measures how many requests leave
+ * it.
+ * <p>
+ * Replica reads go to the replicas in the preferred server group, and only fall back to every copy when the group
+ * holds none for the document. Other requests go to the node holding the active copy, whose server group is looked up
+ * in the bucket's current config, so each request can be counted as local or cross-group per operation. Requests sent
+ * before the bucket config is known are not counted.
+ */
+public final class ServerGroupRouting {
+
+    private final String keyspace;
+    private final String serverGroup;
+    private final PartitionLocator locator;
+    private final MeterRegistry registry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final LongAdder local = new LongAdder();
+    private final LongAdder total = new LongAdder();
+
+    /**
+     * @param serverGroup the server group of the application instance.
+     * @param registry the registry to publish the local and cross-group request counts to, or {@code null} to disable
+     *        them.
+     */
+    public ServerGroupRouting(String keyspace, String serverGroup, PartitionLocator locator, MeterRegistry registry) {
+        this.keyspace = keyspace;
+        this.serverGroup = serverGroup;
+        this.locator = locator;
+        this.registry = registry;
+        if (registry != null) {
+            Gauge.builder("couchbase.kv.server-group.local-ratio", this, ServerGroupRouting::localRatio)
+                    .description("The fraction of KV requests that were sent to a node of the preferred server group")
+                    .tag("keyspace", keyspace)
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Reads the document from a replica in the preferred server group, or from any copy if the group holds none.
+     *
+     * @param send sends a replica read with the given options.
+     */
+    public CompletableFuture<GetReplicaResult> getAnyReplica(String id,
+            Function<GetAnyReplicaOptions, CompletableFuture<GetReplicaResult>> send) {
+        return send.apply(getAnyReplicaOptions().readPreference(ReadPreference.PREFERRED_SERVER_GROUP))
+                .whenComplete((result, failure) -> {
+                    if (failure == null) {
+                        count("get_any_replica", true);
+                    }
+                })
+                .exceptionallyCompose(failure -> {
+                    if (!(unwrap(failure) instanceof DocumentUnretrievableException)) {
+                        return CompletableFuture.failedFuture(failure);
+                    }
+                    count("get_any_replica", false);
+                    return send.apply(getAnyReplicaOptions());
+                });
+    }
+
+    /**
+     * Counts a request sent to the node holding the active copy of the document.
+     */
+    public void recordActive(String operation, String id) {
+        CouchbaseBucketConfig config = locator.couchbaseBucketConfig();
+        if (config == null) {
+            return;
+        }
+        int index = PartitionLocator.activeNodeIndex(config, id);
+        if (index < 0) {
+            return;
+        }
+        NodeInfo node = config.nodeAtIndex(index);
+        count(operation, serverGroup.equals(node.serverGroup()));
+    }
+
+    private void count(String operation, boolean isLocal) {
+        total.increment();
+        if (isLocal) {
+            local.increment();
+        }
+        if (registry != null) {
+            String zone = isLocal ? "local" : "remote";
+            counters.computeIfAbsent(operation + '/' + zone, key -> Counter.builder("couchbase.kv.server-group.requests")
+                    .description("KV requests by whether they were sent to a node of the preferred server group")
+                    .tag("keyspace", keyspace)
+                    .tag("operation", operation)
+                    .tag("server-group", zone)
+                    .register(registry))
+                    .increment();
+        }
+    }
+
+    private double localRatio() {
+        long sent = total.sum();
+        return sent == 0 ? Double.NaN : (double) local.sum() / sent;
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+}
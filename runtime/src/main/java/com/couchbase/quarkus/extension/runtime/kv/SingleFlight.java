@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.kv;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.couchbase.client.java.kv.GetResult;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Merges concurrent gets of the same document into a single request: callers arriving while a get for their
+ * document is in flight receive its outcome instead of sending their own.
+ */
+public final class SingleFlight {
+
+    private final Map<String, CompletableFuture<GetResult>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalesced;
+
+    /**
+     * @param registry the registry to publish the coalesced call count to, or {@code null} to disable it.
+     */
+    public SingleFlight(String keyspace, MeterRegistry registry) {
+        this.coalesced = registry == null ? null
+                : Counter.builder("couchbase.kv.coalesced")
+                        .description("Gets that were served by an identical get already in flight")
+                        .tag("keyspace", keyspace)
+                        .register(registry);
+    }
+
+    public CompletableFuture<GetResult> get(String id, Function<String, CompletableFuture<GetResult>> loader) {
+        CompletableFuture<GetResult> leader = new CompletableFuture<>();
+        CompletableFuture<GetResult> existing = inFlight.putIfAbsent(id, leader);
+        if (existing != null) {
+            if (coalesced != null) {
+                coalesced.increment();
+            }
+            // A copy, so one caller cannot complete or cancel the shared outcome for the others
+            return existing.copy();
+        }
+
+        CompletableFuture<GetResult> request;
+        try {
+            request = loader.apply(id);
+        } catch (RuntimeException e) {
+            request = CompletableFuture.failedFuture(e);
+        }
+        request.whenComplete((result, failure) -> {
+            inFlight.remove(id, leader);
+            if (failure == null) {
+                leader.complete(result);
+            } else {
+                leader.completeExceptionally(failure);
+            }
+        });
+        return leader.copy();
+    }
+
+    /**
+     * Detaches the get in flight for a document, if any, so gets issued after a write do not join a get that may have
+     * been served before the write was applied.
+     */
+    public void forget(String id) {
+        inFlight.remove(id);
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.limit;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import com.couchbase.client.core.error.TimeoutException;
+import com.couchbase.quarkus.extension.runtime.CouchbaseLimiterConfig.ServiceLimiterConfig;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+/**
+ * A {@link ConcurrencyLimiter} whose limit follows the latency of its service, with additive increase and
+ * multiplicative decrease (AIMD).
+ * <p>
+ * A request that completes below the latency threshold while at least half of the limit is used raises the limit by
+ * {@code 1 / limit}, so by about one per round trip. A request that is slower than the threshold or times out
+ * multiplies the limit by the backoff ratio. Only requests sent after the last decrease can lower it again, so slow
+ * responses to requests that were in flight together count once.
+ * <p>
+ * Requests that find the limit reached wait in a bounded FIFO queue, and are rejected when it is full. A queued
+ * request that waited for longer than the service's timeout is rejected instead of being sent, as its caller would
+ * have timed out by now.
+ */
+public final class AimdLimiter implements ConcurrencyLimiter {
+
+    private final String service;
+    private final double minLimit;
+    private final double maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final int maxQueue;
+    private final long maxQueueWaitNanos;
+    private final Counter rejected;
+
+    // Guarded by this.
+    private final Queue<Pending<?>> queue = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private long lastDecrease = System.nanoTime();
+
+    /**
+     * @param timeout the SDK's timeout for requests to the service.
+     * @param registry the registry to publish the limiter's metrics to, or {@code null} to disable them.
+     */
+    public AimdLimiter(String clientName, String service, ServiceLimiterConfig config, Duration timeout,
+            MeterRegistry registry) {
+        if (config.minLimit() < 1 || config.maxLimit() < config.minLimit()) {
+            throw new IllegalArgumentException("The " + service + " limiter requires 1 <= min-limit <= max-limit, was "
+                    + config.minLimit() + " and " + config.maxLimit());
+        }
+        if (config.backoffRatio() <= 0 || config.backoffRatio() >= 1) {
+            throw new IllegalArgumentException("The " + service + " limiter requires a backoff-ratio between 0 and 1, was "
+                    + config.backoffRatio());
+        }
+        this.service = service;
+        this.minLimit = config.minLimit();
+        this.maxLimit = config.maxLimit();
+        this.backoffRatio = config.backoffRatio();
+        this.latencyThresholdNanos = config.latencyThreshold().orElse(timeout.dividedBy(2)).toNanos();
+        this.maxQueue = Math.max(0, config.maxQueue());
+        this.maxQueueWaitNanos = timeout.toNanos();
+        this.limit = Math.max(minLimit, Math.min(maxLimit, config.initialLimit()));
+
+        if (registry == null) {
+            this.rejected = null;
+        } else {
+            Tags tags = Tags.of("client", clientName, "service", service);
+            Gauge.builder("couchbase.limiter.limit", this, AimdLimiter::limit)
+                    .description("The number of concurrent requests the service is currently allowed")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("couchbase.limiter.in-flight", this, AimdLimiter::inFlight)
+                    .description("The number of requests sent to the service and not completed yet")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("couchbase.limiter.queued", this, AimdLimiter::queued)
+                    .description("The number of requests waiting for the limit of the service")
+                    .tags(tags)
+                    .register(registry);
+            this.rejected = Counter.builder("couchbase.limiter.rejected")
+                    .description("Requests rejected because the limit of the service was reached")
+                    .tags(tags)
+                    .register(registry);
+        }
+    }
+
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    public synchronized int queued() {
+        return queue.size();
+    }
+
+    @Override
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> request) {
+        synchronized (this) {
+            if (inFlight >= (int) limit) {
+                if (queue.size() >= maxQueue) {
+                    return CompletableFuture.failedFuture(reject("its limit of " + (int) limit
+                            + " concurrent requests is reached"));
+                }
+                Pending<T> pending = new Pending<>(request, System.nanoTime());
+                queue.add(pending);
+                return pending.result;
+            }
+            inFlight++;
+        }
+        return send(request);
+    }
+
+    private <T> CompletableFuture<T> send(Supplier<CompletableFuture<T>> request) {
+        long start = System.nanoTime();
+        CompletableFuture<T> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            release(start, e);
+            throw e;
+        }
+        return response.whenComplete((result, failure) -> release(start, failure));
+    }
+
+    private <T> void send(Pending<T> pending) {
+        try {
+            send(pending.request).whenComplete((result, failure) -> {
+                if (failure == null) {
+                    pending.result.complete(result);
+                } else {
+                    pending.result.completeExceptionally(unwrap(failure));
+                }
+            });
+        } catch (RuntimeException e) {
+            pending.result.completeExceptionally(e);
+        }
+    }
+
+    private void release(long start, Throwable failure) {
+        long end = System.nanoTime();
+        List<Pending<?>> ready = new ArrayList<>();
+        List<Pending<?>> expired = new ArrayList<>();
+        synchronized (this) {
+            int used = inFlight--;
+            if (unwrap(failure) instanceof TimeoutException || end - start > latencyThresholdNanos) {
+                if (start - lastDecrease >= 0) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecrease = end;
+                }
+            } else if (used * 2 >= (int) limit) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            while (!queue.isEmpty() && inFlight < (int) limit) {
+                Pending<?> pending = queue.poll();
+                if (end - pending.queuedAt > maxQueueWaitNanos) {
+                    expired.add(pending);
+                } else {
+                    inFlight++;
+                    ready.add(pending);
+                }
+            }
+        }
+        for (Pending<?> pending : expired) {
+            pending.result.completeExceptionally(reject("the request waited for longer than the " + service + " timeout"));
+        }
+        for (Pending<?> pending : ready) {
+            send(pending);
+        }
+    }
+
+    private ConcurrencyLimitExceededException reject(String reason) {
+        if (rejected != null) {
+            rejected.increment();
+        }
+        return new ConcurrencyLimitExceededException("Request to the " + service + " service rejected: " + reason);
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+
+    private static final class Pending<T> {
+        final Supplier<CompletableFuture<T>> request;
+        final long queuedAt;
+        final CompletableFuture<T> result = new CompletableFuture<>();
+
+        Pending(Supplier<CompletableFuture<T>> request, long queuedAt) {
+            this.request = request;
+            this.queuedAt = queuedAt;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.limit;
+
+import com.couchbase.client.core.error.CouchbaseException;
+
+/**
+ * Thrown when a request is rejected because its service is at its concurrency limit and no queue slot is free, or
+ * because it waited in the queue for longer than the service's timeout.
+ */
+public class ConcurrencyLimitExceededException extends CouchbaseException {
+
+    public ConcurrencyLimitExceededException(String message) {
+        super(message);
+    }
+}
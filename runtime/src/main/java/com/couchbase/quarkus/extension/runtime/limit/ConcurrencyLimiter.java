@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.limit;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Bounds the number of requests a client has in flight to one service.
+ */
+public interface ConcurrencyLimiter {
+
+    /**
+     * Sends every request immediately.
+     */
+    ConcurrencyLimiter UNLIMITED = new ConcurrencyLimiter() {
+        @Override
+        public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> request) {
+            return request.get();
+        }
+    };
+
+    /**
+     * Sends the request once the limiter has a free slot for it. The returned future fails with a
+     * {@link ConcurrencyLimitExceededException} if the request is rejected instead.
+     */
+    <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> request);
+}
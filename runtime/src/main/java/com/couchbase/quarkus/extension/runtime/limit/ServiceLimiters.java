@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.limit;
+
+import java.time.Duration;
+
+import com.couchbase.client.core.env.TimeoutConfig;
+import com.couchbase.quarkus.extension.runtime.CouchbaseLimiterConfig;
+import com.couchbase.quarkus.extension.runtime.CouchbaseLimiterConfig.ServiceLimiterConfig;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * The concurrency limiters of one client, one per service.
+ */
+public final class ServiceLimiters {
+
+    public static final ServiceLimiters UNLIMITED = new ServiceLimiters(ConcurrencyLimiter.UNLIMITED,
+            ConcurrencyLimiter.UNLIMITED, ConcurrencyLimiter.UNLIMITED, ConcurrencyLimiter.UNLIMITED);
+
+    private final ConcurrencyLimiter kv;
+    private final ConcurrencyLimiter query;
+    private final ConcurrencyLimiter search;
+    private final ConcurrencyLimiter analytics;
+
+    public ServiceLimiters(ConcurrencyLimiter kv, ConcurrencyLimiter query, ConcurrencyLimiter search,
+            ConcurrencyLimiter analytics) {
+        this.kv = kv;
+        this.query = query;
+        this.search = search;
+        this.analytics = analytics;
+    }
+
+    /**
+     * Builds the limiters of a client from the configuration.
+     *
+     * @param timeouts the client's SDK timeouts, which bound how long requests may wait for a slot.
+     * @param registry the registry to publish limiter metrics to, or {@code null} to disable them.
+     */
+    public static ServiceLimiters create(String clientName, CouchbaseLimiterConfig config, TimeoutConfig timeouts,
+            MeterRegistry registry) {
+        if (!config.enabled()) {
+            return UNLIMITED;
+        }
+        return new ServiceLimiters(
+                limiter(clientName, "kv", config.kv(), timeouts.kvTimeout(), registry),
+                limiter(clientName, "query", config.query(), timeouts.queryTimeout(), registry),
+                limiter(clientName, "search", config.search(), timeouts.searchTimeout(), registry),
+                limiter(clientName, "analytics", config.analytics(), timeouts.analyticsTimeout(), registry));
+    }
+
+    private static ConcurrencyLimiter limiter(String clientName, String service, ServiceLimiterConfig config,
+            Duration timeout, MeterRegistry registry) {
+        return config.enabled()
+                ? new AimdLimiter(clientName, service, config, timeout, registry)
+                : ConcurrencyLimiter.UNLIMITED;
+    }
+
+    public ConcurrencyLimiter kv() {
+        return kv;
+    }
+
+    public ConcurrencyLimiter query() {
+        return query;
+    }
+
+    public ConcurrencyLimiter search() {
+        return search;
+    }
+
+    public ConcurrencyLimiter analytics() {
+        return analytics;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.metrics;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.inject.Singleton;
+
+import com.couchbase.quarkus.extension.runtime.CouchbaseRuntimeConfig;
+import com.couchbase.quarkus.extension.runtime.CouchbaseRuntimeConfig.MetricsTag;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+/**
+ * Applies {@code quarkus.couchbase.metrics.*} to the meters of the SDK: drops the tags that are not kept, and adds
+ * the configured histogram, percentiles and SLO buckets to the operation latencies. Quarkus applies it to every
+ * registry it creates.
+ */
+@Singleton
+public class CouchbaseMeterFilter implements MeterFilter {
+
+    private static final String METER_PREFIX = "db.couchbase.";
+    private static final String OPERATIONS = "db.couchbase.operations";
+
+    private final Set<String> droppedTags = new HashSet<>();
+    private final boolean histogram;
+    private final double[] percentiles;
+    private final List<Duration> slos;
+
+    public CouchbaseMeterFilter(CouchbaseRuntimeConfig config) {
+        for (MetricsTag tag : MetricsTag.values()) {
+            if (!config.metricsTags().contains(tag)) {
+                droppedTags.addAll(tag.keys());
+            }
+        }
+        this.histogram = config.histogramEnabled();
+        this.percentiles = config.percentiles()
+                .map(values -> values.stream().mapToDouble(Double::doubleValue).toArray())
+                .orElse(null);
+        this.slos = config.slos().orElse(List.of());
+    }
+
+    @Override
+    public Meter.Id map(Meter.Id id) {
+        if (droppedTags.isEmpty() || !id.getName().startsWith(METER_PREFIX)) {
+            return id;
+        }
+        List<Tag> tags = id.getTags().stream().filter(tag -> !droppedTags.contains(tag.getKey())).toList();
+        return id.replaceTags(tags);
+    }
+
+    @Override
+    public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+        if (!id.getName().equals(OPERATIONS)) {
+            return config;
+        }
+        DistributionStatisticConfig.Builder builder = DistributionStatisticConfig.builder();
+        if (histogram) {
+            builder.percentilesHistogram(true);
+        }
+        if (percentiles != null) {
+            builder.percentiles(percentiles);
+        }
+        if (!slos.isEmpty()) {
+            double nanosPerUnit = nanosPerUnit(id);
+            builder.serviceLevelObjectives(slos.stream().mapToDouble(slo -> slo.toNanos() / nanosPerUnit).toArray());
+        }
+        return builder.build().merge(config);
+    }
+
+    /**
+     * SLO buckets are expressed in the meter's base unit: nanoseconds for timers, and for distribution summaries the
+     * unit the SDK records in, which is microseconds unless it declares otherwise.
+     */
+    private static double nanosPerUnit(Meter.Id id) {
+        if (id.getType() == Meter.Type.TIMER) {
+            return 1;
+        }
+        String unit = id.getBaseUnit() == null ? "" : id.getBaseUnit();
+        return switch (unit) {
+            case "s", "seconds" -> 1_000_000_000d;
+            case "ms", "milliseconds" -> 1_000_000d;
+            case "ns", "nanoseconds" -> 1d;
+            default -> 1_000d;
+        };
+    }
+}
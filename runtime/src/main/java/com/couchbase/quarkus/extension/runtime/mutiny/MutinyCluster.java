@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.mutiny;
+
+import static com.couchbase.client.java.analytics.AnalyticsOptions.analyticsOptions;
+import static com.couchbase.client.java.query.QueryOptions.queryOptions;
+import static com.couchbase.client.java.search.SearchOptions.searchOptions;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import com.couchbase.client.core.io.CollectionIdentifier;
+import com.couchbase.client.java.AsyncCluster;
+import com.couchbase.client.java.Cluster;
+import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.analytics.AnalyticsOptions;
+import com.couchbase.client.java.analytics.AnalyticsResult;
+import com.couchbase.client.java.codec.JsonSerializer;
+import com.couchbase.client.java.codec.TypeRef;
+import com.couchbase.client.java.query.QueryOptions;
+import com.couchbase.client.java.query.QueryResult;
+import com.couchbase.client.java.search.SearchOptions;
+import com.couchbase.client.java.search.SearchRequest;
+import com.couchbase.client.java.search.result.SearchResult;
+import com.couchbase.quarkus.extension.runtime.CouchbaseCollectionConfig;
+import com.couchbase.quarkus.extension.runtime.kv.KvPipeline;
+import com.couchbase.quarkus.extension.runtime.limit.ServiceLimiters;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.converters.multi.MultiReactorConverters;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * A Mutiny view of a {@link Cluster}.
+ * <p>
+ * Buffered operations go through the SDK's {@link AsyncCluster} and complete on the Vert.x context of the subscriber,
+ * if any. Collections handed out by {@link #collection(String, String, String)} are resolved once and cached, and the
+ * ID of a non-default collection is requested as soon as its handle is created.
+ */
+public class MutinyCluster {
+
+    private final Cluster cluster;
+    private final AsyncCluster async;
+    private final Map<String, CouchbaseCollectionConfig> collectionConfigs;
+    private final MeterRegistry registry;
+    private final ServiceLimiters limiters;
+    private final RawJsonSerializer rawJsonSerializer;
+    private final Map<String, MutinyCollection> collections = new ConcurrentHashMap<>();
+
+    public MutinyCluster(Cluster cluster) {
+        this(cluster, Map.of(), null, ServiceLimiters.UNLIMITED);
+    }
+
+    /**
+     * @param collectionConfigs per-collection settings, keyed by {@code bucket.scope.collection}.
+     * @param registry the registry to publish collection metrics to, or {@code null} to disable them.
+     * @param limiters the limiters requests are sent through, per service.
+     */
+    public MutinyCluster(Cluster cluster, Map<String, CouchbaseCollectionConfig> collectionConfigs, MeterRegistry registry,
+            ServiceLimiters limiters) {
+        this.cluster = cluster;
+        this.async = cluster.async();
+        this.rawJsonSerializer = new RawJsonSerializer(cluster.environment().jsonSerializer());
+        this.collectionConfigs = collectionConfigs;
+        this.registry = registry;
+        this.limiters = limiters;
+    }
+
+    /**
+     * @return the blocking {@link Cluster} this view is built on.
+     */
+    public Cluster blocking() {
+        return cluster;
+    }
+
+    /**
+     * Returns the collection with the given keyspace, resolving the bucket, scope and collection handles only the first
+     * time it is requested.
+     */
+    public MutinyCollection collection(String bucketName, String scopeName, String collectionName) {
+        return collections.computeIfAbsent(bucketName + "." + scopeName + "." + collectionName,
+                keyspace -> newCollection(keyspace, cluster.bucket(bucketName).scope(scopeName).collection(collectionName)));
+    }
+
+    private MutinyCollection newCollection(String keyspace, Collection collection) {
+        if (!collection.scopeName().equals(CollectionIdentifier.DEFAULT_SCOPE)
+                || !collection.name().equals(CollectionIdentifier.DEFAULT_COLLECTION)) {
+            // Start fetching the collection ID now, so the first operation does not wait for the manifest lookup.
+            cluster.core().configurationProvider().refreshCollectionId(new CollectionIdentifier(collection.bucketName(),
+                    Optional.of(collection.scopeName()), Optional.of(collection.name())));
+        }
+        return new MutinyCollection(collection,
+                KvPipeline.create(keyspace, collection.async(), collectionConfigs.get(keyspace), limiters.kv(), registry));
+    }
+
+    public Uni<QueryResult> query(String statement) {
+        return query(statement, queryOptions());
+    }
+
+    public Uni<QueryResult> query(String statement, QueryOptions options) {
+        return VertxContexts.fromFuture(() -> limiters.query().execute(() -> async.query(statement, options)));
+    }
+
+    /**
+     * Streams the rows of a query as they arrive instead of buffering the whole result.
+     * <p>
+     * The SDK only exposes streaming rows through Reactor, so this is the one operation adapted from a {@code Flux}.
+     * Streamed queries do not go through the Query limiter, whose latency samples are the time to a complete result.
+     */
+    public <T> Multi<T> queryRows(String statement, QueryOptions options, Class<T> target) {
+        return VertxContexts.onCallerContext(() -> Multi.createFrom().converter(MultiReactorConverters.fromFlux(),
+                cluster.reactive().query(statement, options).flatMapMany(result -> result.rowsAs(target))));
+    }
+
+    /**
+     * Streams the rows of a query as the raw JSON bytes received from the server, without decoding them.
+     * <p>
+     * Rows are requested from the server as the subscriber demands them, so a RESTEasy Reactive endpoint returning this
+     * {@code Multi} writes a result of any size in constant memory: as a JSON array with
+     * {@code @Produces(MediaType.APPLICATION_JSON)}, or as NDJSON with {@code @Produces(RestMediaType.APPLICATION_NDJSON)}
+     * and {@code @RestStreamElementType(MediaType.APPLICATION_JSON)}.
+     */
+    public Multi<Buffer> queryRawRows(String statement) {
+        return queryRawRows(statement, options -> {
+        });
+    }
+
+    /**
+     * Like {@link #queryRawRows(String)}, with options set by {@code customizer} on new {@link QueryOptions}. Their
+     * serializer is then replaced by one that hands rows over as received and encodes parameters with the environment's
+     * serializer.
+     */
+    public Multi<Buffer> queryRawRows(String statement, Consumer<QueryOptions> customizer) {
+        QueryOptions options = queryOptions();
+        customizer.accept(options);
+        return queryRows(statement, options.serializer(rawJsonSerializer), byte[].class).map(Buffers::wrap);
+    }
+
+    public Uni<AnalyticsResult> analyticsQuery(String statement) {
+        return analyticsQuery(statement, analyticsOptions());
+    }
+
+    public Uni<AnalyticsResult> analyticsQuery(String statement, AnalyticsOptions options) {
+        return VertxContexts.fromFuture(() -> limiters.analytics().execute(() -> async.analyticsQuery(statement, options)));
+    }
+
+    public Uni<SearchResult> search(String indexName, SearchRequest request) {
+        return search(indexName, request, searchOptions());
+    }
+
+    public Uni<SearchResult> search(String indexName, SearchRequest request, SearchOptions options) {
+        return VertxContexts.fromFuture(() -> limiters.search().execute(() -> async.search(indexName, request, options)));
+    }
+
+    /**
+     * Hands rows over as the bytes they were received as, and leaves everything else, such as the encoding of query
+     * parameters, to the environment's serializer.
+     */
+    private static final class RawJsonSerializer implements JsonSerializer {
+
+        private final JsonSerializer delegate;
+
+        RawJsonSerializer(JsonSerializer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public byte[] serialize(Object input) {
+            return delegate.serialize(input);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T deserialize(Class<T> target, byte[] input) {
+            return target == byte[].class ? (T) input : delegate.deserialize(target, input);
+        }
+
+        @Override
+        public <T> T deserialize(TypeRef<T> target, byte[] input) {
+            return delegate.deserialize(target, input);
+        }
+    }
+}
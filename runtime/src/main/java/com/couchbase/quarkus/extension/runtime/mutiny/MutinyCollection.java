@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.mutiny;
+
+import static com.couchbase.client.java.kv.ExistsOptions.existsOptions;
+import static com.couchbase.client.java.kv.GetAndTouchOptions.getAndTouchOptions;
+import static com.couchbase.client.java.kv.GetOptions.getOptions;
+import static com.couchbase.client.java.kv.InsertOptions.insertOptions;
+import static com.couchbase.client.java.kv.LookupInOptions.lookupInOptions;
+import static com.couchbase.client.java.kv.MutateInOptions.mutateInOptions;
+import static com.couchbase.client.java.kv.RemoveOptions.removeOptions;
+import static com.couchbase.client.java.kv.ReplaceOptions.replaceOptions;
+import static com.couchbase.client.java.kv.TouchOptions.touchOptions;
+import static com.couchbase.client.java.kv.UpsertOptions.upsertOptions;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import com.couchbase.client.java.AsyncCollection;
+import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.kv.ExistsOptions;
+import com.couchbase.client.java.kv.ExistsResult;
+import com.couchbase.client.java.kv.GetAndTouchOptions;
+import com.couchbase.client.java.kv.GetAnyReplicaOptions;
+import com.couchbase.client.java.kv.GetOptions;
+import com.couchbase.client.java.kv.GetReplicaResult;
+import com.couchbase.client.java.kv.GetResult;
+import com.couchbase.client.java.kv.InsertOptions;
+import com.couchbase.client.java.kv.LookupInOptions;
+import com.couchbase.client.java.kv.LookupInResult;
+import com.couchbase.client.java.kv.LookupInSpec;
+import com.couchbase.client.java.kv.MutateInOptions;
+import com.couchbase.client.java.kv.MutateInResult;
+import com.couchbase.client.java.kv.MutateInSpec;
+import com.couchbase.client.java.kv.MutationResult;
+import com.couchbase.client.java.kv.RemoveOptions;
+import com.couchbase.client.java.kv.ReplaceOptions;
+import com.couchbase.client.java.kv.TouchOptions;
+import com.couchbase.client.java.kv.UpsertOptions;
+import com.couchbase.quarkus.extension.runtime.kv.BlockingCollection;
+import com.couchbase.quarkus.extension.runtime.kv.BulkResult;
+import com.couchbase.quarkus.extension.runtime.kv.KvPipeline;
+import com.couchbase.quarkus.extension.runtime.kv.PartitionLocator;
+import com.couchbase.quarkus.extension.runtime.limit.ConcurrencyLimiter;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * A Mutiny view of a {@link Collection}.
+ * <p>
+ * Operations go straight to the SDK's {@link AsyncCollection}, which is a thin layer over the core KV operations,
+ * so no Reactor {@code Mono} is created per operation. Results are emitted on the Vert.x context of the
+ * subscriber, if any, so reactive endpoints resume on the thread they started on.
+ * <p>
+ * {@link #get(String)} goes through the {@link KvPipeline} of the collection, so it uses the near cache and get
+ * coalescing when they are configured, and every write made through this view keeps them consistent.
+ * <p>
+ * The bulk operations ({@link #getAll(Iterable)}, {@link #upsertAll(Map)} and {@link #removeAll(Iterable)}) group
+ * the IDs by the node holding their active copy and keep a bounded number of requests in flight per node, so a
+ * large batch neither floods one node nor waits on the slowest one. Results are streamed as they arrive and a
+ * failed document does not fail the stream.
+ */
+public class MutinyCollection {
+
+    /**
+     * The number of requests a bulk operation keeps in flight per node unless told otherwise.
+     */
+    public static final int DEFAULT_BULK_CONCURRENCY_PER_NODE = 16;
+
+    private final Collection collection;
+    private final AsyncCollection async;
+    private final KvPipeline pipeline;
+    private final PartitionLocator locator;
+    private final BlockingCollection parking;
+
+    public MutinyCollection(Collection collection) {
+        this(collection, new KvPipeline(collection.async(), null, null, null, null, ConcurrencyLimiter.UNLIMITED));
+    }
+
+    public MutinyCollection(Collection collection, KvPipeline pipeline) {
+        this.collection = collection;
+        this.async = collection.async();
+        this.pipeline = pipeline;
+        this.locator = new PartitionLocator(collection.core(), collection.bucketName());
+        this.parking = new BlockingCollection(collection, pipeline);
+    }
+
+    /**
+     * @return the blocking {@link Collection} this view is built on.
+     */
+    public Collection blocking() {
+        return collection;
+    }
+
+    /**
+     * @return a blocking view for virtual threads that shares this collection's near cache and get coalescing.
+     */
+    public BlockingCollection parking() {
+        return parking;
+    }
+
+    public String bucketName() {
+        return collection.bucketName();
+    }
+
+    public String scopeName() {
+        return collection.scopeName();
+    }
+
+    public String name() {
+        return collection.name();
+    }
+
+    /**
+     * Fetches a document through the collection's read features. Use {@link #get(String, GetOptions)} to always send
+     * a request of its own to the server.
+     */
+    public Uni<GetResult> get(String id) {
+        return VertxContexts.fromFuture(() -> pipeline.get(id));
+    }
+
+    public Uni<GetResult> get(String id, GetOptions options) {
+        return VertxContexts.fromFuture(() -> pipeline.send("get", id, () -> async.get(id, options)));
+    }
+
+    /**
+     * Fetches the content of a document, JSON or binary, as the bytes stored on the server, for endpoints that return
+     * documents as they are. The bytes are wrapped, not copied, into the returned {@link Buffer} and are never parsed.
+     */
+    public Uni<Buffer> getRaw(String id) {
+        return getRaw(id, getOptions());
+    }
+
+    /**
+     * Like {@link #getRaw(String)}. The content is read as bytes whatever the transcoder of {@code options}, which are
+     * not changed.
+     */
+    public Uni<Buffer> getRaw(String id, GetOptions options) {
+        // contentAsBytes bypasses the transcoder, so the caller's options do not need a raw one.
+        return get(id, options).map(result -> Buffers.wrap(result.contentAsBytes()));
+    }
+
+    /**
+     * Reads a document from a replica in the client's preferred server group, or from any copy if it has none or the
+     * group holds no copy of the document.
+     */
+    public Uni<GetReplicaResult> getAnyReplica(String id) {
+        return VertxContexts.fromFuture(() -> pipeline.getAnyReplica(id));
+    }
+
+    public Uni<GetReplicaResult> getAnyReplica(String id, GetAnyReplicaOptions options) {
+        return VertxContexts.fromFuture(() -> pipeline.getAnyReplica(id, options));
+    }
+
+    public Uni<GetResult> getAndTouch(String id, Duration expiry) {
+        return getAndTouch(id, expiry, getAndTouchOptions());
+    }
+
+    public Uni<GetResult> getAndTouch(String id, Duration expiry, GetAndTouchOptions options) {
+        return VertxContexts.fromFuture(
+                () -> pipeline.write("get_and_touch", id, () -> async.getAndTouch(id, expiry, options)));
+    }
+
+    public Uni<ExistsResult> exists(String id) {
+        return exists(id, existsOptions());
+    }
+
+    public Uni<ExistsResult> exists(String id, ExistsOptions options) {
+        return VertxContexts.fromFuture(() -> pipeline.send("exists", id, () -> async.exists(id, options)));
+    }
+
+    public Uni<MutationResult> insert(String id, Object content) {
+        return insert(id, content, insertOptions());
+    }
+
+    public Uni<MutationResult> insert(String id, Object content, InsertOptions options) {
+        return VertxContexts.fromFuture(() -> pipeline.write("insert", id, () -> async.insert(id, content, options)));
+    }
+
+    public Uni<MutationResult> upsert(String id, Object content) {
+        return upsert(id, content, upsertOptions());
+    }
+
+    public Uni<MutationResult> upsert(String id, Object content, UpsertOptions options) {
+        return VertxContexts.fromFuture(() -> pipeline.write("upsert", id, () -> async.upsert(id, content, options)));
+    }
+
+    public Uni<MutationResult> replace(String id, Object content) {
+        return replace(id, content, replaceOptions());
+    }
+
+    public Uni<MutationResult> replace(String id, Object content, ReplaceOptions options) {
+        return VertxContexts.fromFuture(() -> pipeline.write("replace", id, () -> async.replace(id, content, options)));
+    }
+
+    public Uni<MutationResult> remove(String id) {
+        return remove(id, removeOptions());
+    }
+
+    public Uni<MutationResult> remove(String id, RemoveOptions options) {
+        return VertxContexts.fromFuture(() -> pipeline.write("remove", id, () -> async.remove(id, options)));
+    }
+
+    public Uni<MutationResult> touch(String id, Duration expiry) {
+        return touch(id, expiry, touchOptions());
+    }
+
+    public Uni<MutationResult> touch(String id, Duration expiry, TouchOptions options) {
+        return VertxContexts.fromFuture(() -> pipeline.write("touch", id, () -> async.touch(id, expiry, options)));
+    }
+
+    public Uni<LookupInResult> lookupIn(String id, List<LookupInSpec> specs) {
+        return lookupIn(id, specs, lookupInOptions());
+    }
+
+    public Uni<LookupInResult> lookupIn(String id, List<LookupInSpec> specs, LookupInOptions options) {
+        return VertxContexts.fromFuture(() -> pipeline.send("lookup_in", id, () -> async.lookupIn(id, specs, options)));
+    }
+
+    public Uni<MutateInResult> mutateIn(String id, List<MutateInSpec> specs) {
+        return mutateIn(id, specs, mutateInOptions());
+    }
+
+    public Uni<MutateInResult> mutateIn(String id, List<MutateInSpec> specs, MutateInOptions options) {
+        return VertxContexts.fromFuture(() -> pipeline.write("mutate_in", id, () -> async.mutateIn(id, specs, options)));
+    }
+
+    public Multi<BulkResult<GetResult>> getAll(Iterable<String> ids) {
+        return getAll(ids, DEFAULT_BULK_CONCURRENCY_PER_NODE);
+    }
+
+    /**
+     * Fetches the documents through the collection's read features, keeping at most {@code concurrencyPerNode}
+     * requests in flight to each node. Results are emitted in completion order.
+     */
+    public Multi<BulkResult<GetResult>> getAll(Iterable<String> ids, int concurrencyPerNode) {
+        return bulk(ids, concurrencyPerNode, pipeline::get);
+    }
+
+    public Multi<BulkResult<MutationResult>> upsertAll(Map<String, ?> documents) {
+        return upsertAll(documents, upsertOptions(), DEFAULT_BULK_CONCURRENCY_PER_NODE);
+    }
+
+    public Multi<BulkResult<MutationResult>> upsertAll(Map<String, ?> documents, UpsertOptions options,
+            int concurrencyPerNode) {
+        return bulk(documents.keySet(), concurrencyPerNode,
+                id -> pipeline.write("upsert", id, () -> async.upsert(id, documents.get(id), options)));
+    }
+
+    public Multi<BulkResult<MutationResult>> removeAll(Iterable<String> ids) {
+        return removeAll(ids, removeOptions(), DEFAULT_BULK_CONCURRENCY_PER_NODE);
+    }
+
+    public Multi<BulkResult<MutationResult>> removeAll(Iterable<String> ids, RemoveOptions options, int concurrencyPerNode) {
+        return bulk(ids, concurrencyPerNode, id -> pipeline.write("remove", id, () -> async.remove(id, options)));
+    }
+
+    private <T> Multi<BulkResult<T>> bulk(Iterable<String> ids, int concurrencyPerNode,
+            Function<String, CompletableFuture<T>> operation) {
+        if (concurrencyPerNode < 1) {
+            throw new IllegalArgumentException("concurrencyPerNode must be at least 1, was " + concurrencyPerNode);
+        }
+        return VertxContexts.onCallerContext(() -> Multi.createFrom()
+                .iterable(locator.groupByActiveNode(ids).values())
+                .onItem().transformToMultiAndMerge(group -> Multi.createFrom().iterable(group)
+                        .onItem().transformToUni(id -> Uni.createFrom().completionStage(() -> operation.apply(id))
+                                .map(result -> BulkResult.success(id, result))
+                                .onFailure().recoverWithItem(failure -> BulkResult.<T> failure(id,
+                                        VertxContexts.unwrap(failure))))
+                        .merge(concurrencyPerNode)));
+    }
+}
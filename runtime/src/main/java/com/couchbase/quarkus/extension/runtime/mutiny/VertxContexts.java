@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.mutiny;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Adapts SDK futures to Mutiny, completing on the Vert.x context of the subscriber when there is one.
+ */
+final class VertxContexts {
+
+    private VertxContexts() {
+    }
+
+    /**
+     * Creates a {@link Uni} that starts the operation on subscription and emits its outcome on the caller's
+     * Vert.x context. Outcomes already delivered on that context are emitted directly, without a dispatch.
+     */
+    static <T> Uni<T> fromFuture(Supplier<CompletableFuture<T>> operation) {
+        return Uni.createFrom().emitter(emitter -> {
+            Context context = Vertx.currentContext();
+            operation.get().whenComplete((result, failure) -> {
+                if (context == null || context == Vertx.currentContext()) {
+                    complete(emitter, result, failure);
+                } else {
+                    context.runOnContext(ignored -> complete(emitter, result, failure));
+                }
+            });
+        });
+    }
+
+    /**
+     * Emits the items of the given stream on the subscriber's Vert.x context when there is one.
+     */
+    static <T> Multi<T> onCallerContext(Supplier<Multi<T>> stream) {
+        return Multi.createFrom().deferred(() -> {
+            Context context = Vertx.currentContext();
+            Multi<T> multi = stream.get();
+            return context == null ? multi : multi.emitOn(command -> context.runOnContext(ignored -> command.run()));
+        });
+    }
+
+    private static <T> void complete(UniEmitter<? super T> emitter, T result, Throwable failure) {
+        if (failure == null) {
+            emitter.complete(result);
+        } else {
+            emitter.fail(unwrap(failure));
+        }
+    }
+
+    /**
+     * Strips the {@link CompletionException} wrapper added by dependent stages of a {@link CompletableFuture}.
+     */
+    static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+}
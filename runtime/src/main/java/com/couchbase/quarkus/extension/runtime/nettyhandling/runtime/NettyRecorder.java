@@ -1,16 +1,24 @@
 package com.couchbase.quarkus.extension.runtime.nettyhandling.runtime;
 
+import java.util.Optional;
 import java.util.function.Supplier;
 
+import org.jboss.logging.Logger;
+
 import com.couchbase.client.core.deps.io.netty.channel.EventLoopGroup;
+import com.couchbase.client.core.deps.io.netty.channel.epoll.Epoll;
+import com.couchbase.client.core.deps.io.netty.channel.epoll.EpollEventLoopGroup;
 import com.couchbase.client.core.deps.io.netty.channel.nio.NioEventLoopGroup;
+import com.couchbase.quarkus.extension.runtime.CouchbaseBuildTimeConfig.IoTransport;
 
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
 public class NettyRecorder {
 
-    public Supplier<EventLoopGroup> createEventLoop(int nThreads) {
+    private static final Logger log = Logger.getLogger(NettyRecorder.class);
+
+    public Supplier<EventLoopGroup> createEventLoop(int nThreads, Optional<IoTransport> transport) {
         return new Supplier<EventLoopGroup>() {
 
             volatile EventLoopGroup val;
@@ -20,7 +28,7 @@ public class NettyRecorder {
                 if (val == null) {
                     synchronized (this) {
                         if (val == null) {
-                            val = new NioEventLoopGroup(nThreads);
+                            val = newEventLoopGroup(nThreads, transport.orElse(IoTransport.NIO));
                         }
                     }
                 }
@@ -28,4 +36,18 @@ public class NettyRecorder {
             }
         };
     }
+
+    private static EventLoopGroup newEventLoopGroup(int nThreads, IoTransport transport) {
+        if (transport == IoTransport.IO_URING) {
+            log.warn("io_uring is not supported by the Couchbase SDK's IoEnvironment, using epoll instead");
+            transport = IoTransport.EPOLL;
+        }
+        if (transport == IoTransport.EPOLL) {
+            if (Epoll.isAvailable()) {
+                return new EpollEventLoopGroup(nThreads);
+            }
+            log.warnf("The epoll transport is not available, falling back to NIO: %s", Epoll.unavailabilityCause());
+        }
+        return new NioEventLoopGroup(nThreads);
+    }
 }
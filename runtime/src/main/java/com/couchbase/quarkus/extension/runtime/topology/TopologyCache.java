@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.topology;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.logging.Logger;
+
+import com.couchbase.client.core.Core;
+import com.couchbase.client.core.CoreContext;
+import com.couchbase.client.core.Reactor;
+import com.couchbase.client.core.config.ClusterConfig;
+import com.couchbase.client.core.config.ConfigVersion;
+import com.couchbase.client.core.config.ProposedBucketConfigContext;
+import com.couchbase.client.core.config.ProposedGlobalConfigContext;
+import com.couchbase.client.core.io.CollectionIdentifier;
+import com.couchbase.client.core.msg.kv.CarrierBucketConfigRequest;
+import com.couchbase.client.core.msg.kv.CarrierGlobalConfigRequest;
+import com.couchbase.client.core.retry.BestEffortRetryStrategy;
+import com.couchbase.client.core.service.ServiceType;
+import com.couchbase.client.core.topology.ClusterTopology;
+import com.couchbase.client.core.topology.HostAndServicePorts;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Saves the raw cluster and bucket configs of one client to disk and proposes them to the SDK when the next process
+ * connects.
+ * <p>
+ * Each config is stored in its own file: the connection string it belongs to, the host it was fetched from (which
+ * replaces the {@code $HOST} placeholders of the config), then the config JSON. A file written for another connection
+ * string or older than the maximum age is ignored. Proposed configs only take effect if the SDK has no newer one, so
+ * the configs fetched during bootstrap replace them as soon as they arrive.
+ * <p>
+ * A config decides which hosts the SDK sends credentials and data to, so the directories are created readable by the
+ * process user only, and the cache is not used if the root directory, the client directory or a config file belongs
+ * to another user, or if a directory can be written by other users.
+ */
+public final class TopologyCache {
+
+    private static final Logger log = Logger.getLogger(TopologyCache.class);
+
+    static final String GLOBAL = "global";
+
+    /**
+     * Configs usually arrive in bursts during a rebalance, only the last of each burst is saved.
+     */
+    private static final Duration SAVE_INTERVAL = Duration.ofSeconds(5);
+
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rwx------");
+
+    private final Path root;
+    private final Path directory;
+    private final String connectionString;
+    private final Duration maxAge;
+    private final AtomicBoolean refused = new AtomicBoolean();
+    private final AtomicBoolean failed = new AtomicBoolean();
+    private volatile UserPrincipal processUser;
+
+    /**
+     * @param root the directory shared by the caches of all clients.
+     * @param name the subdirectory of {@code root} this client's configs are saved in.
+     */
+    public TopologyCache(Path root, String name, String connectionString, Duration maxAge) {
+        this(root, name, connectionString, maxAge, null);
+    }
+
+    /**
+     * @param processUser the user the files must belong to, or {@code null} for the process user.
+     */
+    TopologyCache(Path root, String name, String connectionString, Duration maxAge, UserPrincipal processUser) {
+        this.root = root;
+        this.directory = root.resolve(name);
+        this.connectionString = connectionString;
+        this.maxAge = maxAge;
+        this.processUser = processUser;
+    }
+
+    /**
+     * Proposes the cached cluster config, if there is a usable one.
+     */
+    public void restoreGlobal(Core core) {
+        read(GLOBAL).ifPresent(entry -> core.configurationProvider()
+                .proposeGlobalConfig(new ProposedGlobalConfigContext(entry.config(), entry.origin())));
+    }
+
+    /**
+     * Proposes the cached config of a bucket, if there is a usable one. Call it right after the bucket is opened.
+     */
+    public void restoreBucket(Core core, String bucketName) {
+        read(bucketFile(bucketName)).ifPresent(entry -> core.configurationProvider()
+                .proposeBucketConfig(new ProposedBucketConfigContext(bucketName, entry.config(), entry.origin())));
+    }
+
+    /**
+     * Saves the configs whenever the SDK applies a new one, until the core shuts down.
+     */
+    public Disposable watch(Core core) {
+        return core.configurationProvider().configs()
+                .sample(SAVE_INTERVAL)
+                .onBackpressureLatest()
+                .concatMap(config -> save(core, config)
+                        .onErrorResume(failure -> {
+                            fail(failure, "Could not save the Couchbase topology to %s", directory);
+                            return Mono.empty();
+                        }), 1)
+                .subscribe();
+    }
+
+    private Mono<Void> save(Core core, ClusterConfig config) {
+        ClusterTopology topology = config.globalTopology();
+        if (topology == null) {
+            return Mono.empty();
+        }
+        Optional<HostAndServicePorts> node = topology.nodes().stream().filter(it -> it.has(ServiceType.KV)).findFirst();
+        if (node.isEmpty()) {
+            return Mono.empty();
+        }
+        HostAndServicePorts target = node.get();
+        Mono<Void> global = fetchGlobal(core, target).doOnNext(raw -> write(GLOBAL, target.host(), raw)).then();
+        Flux<Void> buckets = Flux.fromIterable(config.bucketConfigs().keySet())
+                .concatMap(bucketName -> fetchBucket(core, target, bucketName)
+                        .doOnNext(raw -> write(bucketFile(bucketName), target.host(), raw))
+                        .then());
+        return global.thenMany(buckets).then();
+    }
+
+    private static Mono<byte[]> fetchGlobal(Core core, HostAndServicePorts node) {
+        CoreContext ctx = core.context();
+        return Mono.defer(() -> {
+            CarrierGlobalConfigRequest request = new CarrierGlobalConfigRequest(
+                    ctx.environment().timeoutConfig().connectTimeout(),
+                    ctx,
+                    BestEffortRetryStrategy.INSTANCE,
+                    node.id(),
+                    ConfigVersion.ZERO);
+            core.send(request);
+            return Reactor.wrap(request, request.response(), true);
+        }).filter(response -> response.status().success()).map(response -> response.content());
+    }
+
+    private static Mono<byte[]> fetchBucket(Core core, HostAndServicePorts node, String bucketName) {
+        CoreContext ctx = core.context();
+        return Mono.defer(() -> {
+            CarrierBucketConfigRequest request = new CarrierBucketConfigRequest(
+                    ctx.environment().timeoutConfig().connectTimeout(),
+                    ctx,
+                    CollectionIdentifier.fromDefault(bucketName),
+                    BestEffortRetryStrategy.INSTANCE,
+                    node.id(),
+                    ConfigVersion.ZERO);
+            core.send(request);
+            return Reactor.wrap(request, request.response(), true);
+        }).filter(response -> response.status().success()).map(response -> response.content());
+    }
+
+    Optional<Entry> read(String name) {
+        Path file = directory.resolve(name);
+        try {
+            if (!Files.isDirectory(directory, LinkOption.NOFOLLOW_LINKS) || !isPrivate(root) || !isPrivate(directory)
+                    || !Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS)
+                    || Files.getLastModifiedTime(file).toInstant().isBefore(Instant.now().minus(maxAge))) {
+                return Optional.empty();
+            }
+            if (!isOwned(file)) {
+                refuse(file);
+                return Optional.empty();
+            }
+            String content = Files.readString(file, UTF_8);
+            int firstLineEnd = content.indexOf('\n');
+            int secondLineEnd = firstLineEnd < 0 ? -1 : content.indexOf('\n', firstLineEnd + 1);
+            if (secondLineEnd < 0 || !content.substring(0, firstLineEnd).equals(connectionString)) {
+                return Optional.empty();
+            }
+            return Optional.of(new Entry(content.substring(firstLineEnd + 1, secondLineEnd),
+                    content.substring(secondLineEnd + 1)));
+        } catch (IOException e) {
+            fail(e, "Could not read the cached Couchbase topology %s", file);
+            return Optional.empty();
+        }
+    }
+
+    void write(String name, String origin, byte[] config) {
+        try {
+            createPrivateDirectory(root);
+            if (!isPrivate(root)) {
+                return;
+            }
+            createPrivateDirectory(directory);
+            if (!isPrivate(directory)) {
+                return;
+            }
+            Path temp = Files.createTempFile(directory, name, ".tmp");
+            Files.writeString(temp, connectionString + "\n" + origin + "\n" + new String(config, UTF_8), UTF_8);
+            try {
+                Files.move(temp, directory.resolve(name), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, directory.resolve(name), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            fail(e, "Could not save the Couchbase topology to %s", directory);
+        }
+    }
+
+    private static void createPrivateDirectory(Path path) throws IOException {
+        if (Files.exists(path, LinkOption.NOFOLLOW_LINKS)) {
+            return;
+        }
+        FileSystem fileSystem = path.getFileSystem();
+        if (fileSystem.supportedFileAttributeViews().contains("posix")) {
+            FileAttribute<Set<PosixFilePermission>> ownerOnly = PosixFilePermissions.asFileAttribute(OWNER_ONLY);
+            Files.createDirectories(path, ownerOnly);
+        } else {
+            Files.createDirectories(path);
+        }
+    }
+
+    /**
+     * Whether a directory belongs to the process user and, where POSIX permissions are supported, cannot be written by
+     * other users. Logs a warning the first time a directory is refused.
+     */
+    private boolean isPrivate(Path path) throws IOException {
+        if (!Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS) || !isOwned(path)) {
+            refuse(path);
+            return false;
+        }
+        if (path.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(path, LinkOption.NOFOLLOW_LINKS);
+            if (permissions.contains(PosixFilePermission.GROUP_WRITE)
+                    || permissions.contains(PosixFilePermission.OTHERS_WRITE)) {
+                refuse(path);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isOwned(Path path) throws IOException {
+        return processUser().equals(Files.getOwner(path, LinkOption.NOFOLLOW_LINKS));
+    }
+
+    /**
+     * The owner of a file the process creates. Looking the user up by {@code user.name} fails when its UID has no
+     * passwd entry, as with the arbitrary UIDs some container platforms run images with.
+     */
+    private UserPrincipal processUser() throws IOException {
+        UserPrincipal user = processUser;
+        if (user == null) {
+            Path probe = Files.createTempFile("quarkus-couchbase-owner", ".tmp");
+            try {
+                user = Files.getOwner(probe, LinkOption.NOFOLLOW_LINKS);
+            } finally {
+                Files.deleteIfExists(probe);
+            }
+            processUser = user;
+        }
+        return user;
+    }
+
+    private void refuse(Path path) {
+        if (refused.compareAndSet(false, true)) {
+            log.warnf("The Couchbase topology cache is not used: %s belongs to another user or can be written by other"
+                    + " users", path);
+        }
+    }
+
+    /**
+     * Logs the first failure to read or save the cache as a warning, and later ones at debug level.
+     */
+    private void fail(Throwable failure, String message, Path path) {
+        if (failed.compareAndSet(false, true)) {
+            log.warnf(failure, message, path);
+        } else {
+            log.debugf(failure, message, path);
+        }
+    }
+
+    private static String bucketFile(String bucketName) {
+        return "bucket-" + bucketName;
+    }
+
+    record Entry(String origin, String config) {
+    }
+}
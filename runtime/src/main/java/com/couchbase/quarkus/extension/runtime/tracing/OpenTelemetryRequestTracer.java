@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.tracing;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import com.couchbase.client.core.cnc.RequestSpan;
+import com.couchbase.client.core.cnc.RequestTracer;
+import com.couchbase.client.core.cnc.tracing.NoopRequestSpan;
+import com.couchbase.client.core.msg.RequestContext;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import reactor.core.publisher.Mono;
+
+/**
+ * A {@link RequestTracer} creating OpenTelemetry spans for SDK operations.
+ * <p>
+ * The span of an operation is a child of the OpenTelemetry context current when the operation is called, which
+ * Quarkus keeps on the Vert.x context of the request. When that parent is not sampled, no span is created at all, and
+ * when the sampler drops a new root span, the spans of the SDK's internal steps are not created either.
+ */
+public final class OpenTelemetryRequestTracer implements RequestTracer {
+
+    private final Tracer tracer;
+
+    public OpenTelemetryRequestTracer(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public RequestSpan requestSpan(String name, RequestSpan parent) {
+        Context parentContext;
+        if (parent instanceof NoopRequestSpan) {
+            // An internal step of an operation whose span was not created, e.g. because the sampler dropped it.
+            return NoopRequestSpan.INSTANCE;
+        } else if (parent instanceof OpenTelemetrySpan otelParent) {
+            parentContext = Context.current().with(otelParent.span);
+        } else if (parent == null) {
+            parentContext = Context.current();
+            SpanContext parentSpan = Span.fromContext(parentContext).getSpanContext();
+            if (parentSpan.isValid() && !parentSpan.isSampled()) {
+                return NoopRequestSpan.INSTANCE;
+            }
+        } else {
+            // A span of another tracer, passed by the application through the options of the operation.
+            parentContext = Context.current();
+        }
+
+        Span span = tracer.spanBuilder(name)
+                .setParent(parentContext)
+                .setSpanKind(parent instanceof OpenTelemetrySpan ? SpanKind.INTERNAL : SpanKind.CLIENT)
+                .startSpan();
+        if (!span.isRecording()) {
+            span.end();
+            return NoopRequestSpan.INSTANCE;
+        }
+        return new OpenTelemetrySpan(span);
+    }
+
+    @Override
+    public Mono<Void> start() {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Void> stop(Duration timeout) {
+        return Mono.empty();
+    }
+
+    private static final class OpenTelemetrySpan implements RequestSpan {
+
+        private final Span span;
+
+        OpenTelemetrySpan(Span span) {
+            this.span = span;
+        }
+
+        @Override
+        public void attribute(String key, String value) {
+            span.setAttribute(key, value);
+        }
+
+        @Override
+        public void attribute(String key, boolean value) {
+            span.setAttribute(key, value);
+        }
+
+        @Override
+        public void attribute(String key, long value) {
+            span.setAttribute(key, value);
+        }
+
+        @Override
+        public void event(String name, Instant timestamp) {
+            span.addEvent(name, timestamp);
+        }
+
+        @Override
+        public void status(RequestSpan.StatusCode status) {
+            switch (status) {
+                case OK -> span.setStatus(StatusCode.OK);
+                case ERROR -> span.setStatus(StatusCode.ERROR);
+                default -> {
+                }
+            }
+        }
+
+        @Override
+        public void recordException(Throwable err) {
+            span.recordException(err);
+        }
+
+        @Override
+        public void end() {
+            span.end();
+        }
+
+        @Override
+        public void requestContext(RequestContext requestContext) {
+        }
+    }
+}
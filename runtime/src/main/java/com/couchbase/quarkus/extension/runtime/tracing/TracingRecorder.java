@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.tracing;
+
+import com.couchbase.client.core.cnc.RequestTracer;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.annotations.Recorder;
+
+/**
+ * Enables OpenTelemetry tracing of SDK operations when {@code quarkus-opentelemetry} is present, which
+ * {@code CouchbaseRecorder} then installs in the cluster environments.
+ */
+@Recorder
+public class TracingRecorder {
+
+    private static final String INSTRUMENTATION_SCOPE = "io.quarkiverse.couchbase";
+
+    private static volatile boolean enabled;
+
+    public void enable() {
+        enabled = true;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return a tracer on the application's {@link OpenTelemetry} bean, which applies the Quarkus sampler.
+     */
+    public static RequestTracer tracer() {
+        OpenTelemetry openTelemetry = Arc.container().instance(OpenTelemetry.class).get();
+        return new OpenTelemetryRequestTracer(openTelemetry.getTracer(INSTRUMENTATION_SCOPE));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.warmup;
+
+import static com.couchbase.client.core.service.ServiceType.KV;
+import static com.couchbase.client.java.diagnostics.WaitUntilReadyOptions.waitUntilReadyOptions;
+import static com.couchbase.client.java.query.QueryOptions.queryOptions;
+
+import java.util.List;
+import java.util.Locale;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+
+import org.jboss.logging.Logger;
+
+import com.couchbase.client.core.io.CollectionIdentifier;
+import com.couchbase.client.java.ReactiveCluster;
+import com.couchbase.client.java.query.ReactiveQueryResult;
+import com.couchbase.quarkus.extension.runtime.CouchbaseClient;
+import com.couchbase.quarkus.extension.runtime.CouchbaseRuntimeConfig;
+import com.couchbase.quarkus.extension.runtime.CouchbaseWarmupConfig;
+import com.couchbase.quarkus.extension.runtime.mutiny.MutinyCluster;
+
+import io.quarkus.runtime.StartupEvent;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Connects the default client when the application starts, so the first requests after a rollout do not pay for
+ * bootstrap, bucket opening, collection ID lookups and query planning.
+ * <p>
+ * Warmup runs in the background and does not delay startup; the readiness check reports DOWN until it completes.
+ */
+@ApplicationScoped
+public class CouchbaseWarmup {
+
+    private static final Logger log = Logger.getLogger(CouchbaseWarmup.class);
+
+    /**
+     * An ID that is only used to look a document up, so the KV round trip that resolves a collection has no effect.
+     */
+    private static final String PROBE_ID = "__quarkus_couchbase_warmup__";
+
+    @Inject
+    MutinyCluster cluster;
+
+    @Inject
+    CouchbaseRuntimeConfig config;
+
+    private volatile boolean done;
+    private volatile Disposable warmup;
+
+    void start(@Observes StartupEvent event) {
+        CouchbaseWarmupConfig warmupConfig = config.warmup();
+        if (!warmupConfig.enabled()) {
+            done = true;
+            return;
+        }
+        warmupConfig.statements().ifPresent(CouchbaseWarmup::requireSelects);
+        long start = System.nanoTime();
+        warmup = warmUp(warmupConfig)
+                .timeout(warmupConfig.timeout())
+                .doFinally(signal -> done = true)
+                .subscribe(
+                        ignored -> {
+                        },
+                        failure -> log.warnf(failure, "Couchbase warmup did not complete"),
+                        () -> log.debugf("Couchbase warmup completed in %dms", (System.nanoTime() - start) / 1_000_000));
+    }
+
+    @PreDestroy
+    void stop() {
+        if (warmup != null) {
+            warmup.dispose();
+        }
+    }
+
+    /**
+     * @return whether warmup has completed, failed or is disabled.
+     */
+    public boolean isDone() {
+        return done;
+    }
+
+    private Mono<Void> warmUp(CouchbaseWarmupConfig warmupConfig) {
+        ReactiveCluster reactive = cluster.blocking().reactive();
+        List<String> keyspaces = warmupConfig.keyspaces()
+                .or(() -> config.clients().get(CouchbaseClient.DEFAULT_CLIENT_NAME).bucketName().map(List::of))
+                .orElse(List.of());
+
+        int queryConnections = warmupConfig.queryConnections();
+
+        return reactive.waitUntilReady(warmupConfig.timeout())
+                .thenMany(Flux.fromIterable(keyspaces).flatMap(keyspace -> openKeyspace(reactive, keyspace, warmupConfig)))
+                .thenMany(Flux.range(0, queryConnections)
+                        .flatMap(ignored -> drain(reactive.query("SELECT RAW 1")), Math.max(1, queryConnections)))
+                .thenMany(Flux.fromIterable(warmupConfig.statements().orElse(List.of()))
+                        .concatMap(statement -> drain(
+                                reactive.query(statement, queryOptions().adhoc(false).readonly(true)))))
+                .then();
+    }
+
+    /**
+     * Rejects statements that are not queries. Warmup statements are executed on every startup of every instance, so
+     * a mutation would be applied once per instance and restart. The statements also run as read-only queries, so the
+     * server refuses any mutation this check lets through.
+     */
+    private static void requireSelects(List<String> statements) {
+        for (String statement : statements) {
+            String keyword = statement.strip().split("[\\s(]", 2)[0].toUpperCase(Locale.ROOT);
+            if (!keyword.equals("SELECT") && !keyword.equals("WITH")) {
+                throw new IllegalStateException(
+                        "quarkus.couchbase.warmup.statements only accepts SELECT statements, got " + statement);
+            }
+        }
+    }
+
+    private static Mono<Void> drain(Mono<ReactiveQueryResult> query) {
+        return query.flatMapMany(result -> result.rowsAs(Object.class)).then();
+    }
+
+    private Mono<Void> openKeyspace(ReactiveCluster reactive, String keyspace, CouchbaseWarmupConfig warmupConfig) {
+        String[] parts = keyspace.split("\\.");
+        if (parts.length != 1 && parts.length != 3) {
+            return Mono.error(new IllegalArgumentException(
+                    "quarkus.couchbase.warmup.keyspaces entries must be bucket or bucket.scope.collection, got " + keyspace));
+        }
+        Mono<Void> bucketReady = reactive.bucket(parts[0])
+                .waitUntilReady(warmupConfig.timeout(), waitUntilReadyOptions().serviceTypes(KV));
+        if (parts.length == 1
+                || (parts[1].equals(CollectionIdentifier.DEFAULT_SCOPE)
+                        && parts[2].equals(CollectionIdentifier.DEFAULT_COLLECTION))) {
+            return bucketReady;
+        }
+        // Resolving the handle through MutinyCluster caches it for the extension's beans and requests the collection ID;
+        // the lookup waits until the ID is known and the collection's KV connection is in use.
+        return bucketReady.then(Mono.fromCompletionStage(() -> cluster.collection(parts[0], parts[1], parts[2])
+                .blocking().async().exists(PROBE_ID))).then();
+    }
+}
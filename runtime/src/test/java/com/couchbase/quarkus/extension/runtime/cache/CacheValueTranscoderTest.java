@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.InvalidClassException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+import com.couchbase.client.core.error.DecodingFailureException;
+import com.couchbase.client.java.codec.Transcoder.EncodedValue;
+
+class CacheValueTranscoderTest {
+
+    private final ClassLoader classLoader = getClass().getClassLoader();
+    private final CacheValueTranscoder jdkOnly = new CacheValueTranscoder(classLoader, List.of());
+
+    @Test
+    void decodesJdkValues() {
+        assertRoundTrip(jdkOnly, "value");
+        assertRoundTrip(jdkOnly, 42L);
+        assertRoundTrip(jdkOnly, new BigDecimal("12.50"));
+        assertRoundTrip(jdkOnly, LocalDate.of(2025, 1, 31));
+    }
+
+    @Test
+    void decodesJavaUtilCollections() {
+        assertRoundTrip(jdkOnly, List.of("a", "b"));
+        assertRoundTrip(jdkOnly, Map.of("a", 1));
+        assertRoundTrip(jdkOnly, Set.of(1L, 2L));
+        assertRoundTrip(jdkOnly, new ArrayList<>(List.of(1, 2)));
+        assertRoundTrip(jdkOnly, new HashMap<>(Map.of("a", List.of("b"))));
+        assertRoundTrip(jdkOnly, new TreeSet<>(Set.of("b", "a")));
+    }
+
+    @Test
+    void decodesAllowedApplicationClasses() {
+        Price price = new Price("EUR", new BigDecimal("9.99"));
+        Map<String, Price> prices = new LinkedHashMap<>(Map.of("book", price));
+
+        assertRoundTrip(new CacheValueTranscoder(classLoader, List.of(Price.class.getName())), price);
+        assertRoundTrip(new CacheValueTranscoder(classLoader, List.of(Price.class.getPackageName() + ".*")), prices);
+    }
+
+    @Test
+    void rejectsClassesThatAreNotAllowed() {
+        EncodedValue encoded = jdkOnly.encode(new Price("EUR", BigDecimal.ONE));
+
+        DecodingFailureException failure = assertThrows(DecodingFailureException.class,
+                () -> jdkOnly.decode(Object.class, encoded.encoded(), encoded.flags()));
+        assertInstanceOf(InvalidClassException.class, failure.getCause());
+    }
+
+    @Test
+    void rejectsClassesNestedInAllowedCollections() {
+        EncodedValue encoded = jdkOnly.encode(new ArrayList<>(List.of(new Price("EUR", BigDecimal.ONE))));
+
+        assertThrows(DecodingFailureException.class,
+                () -> jdkOnly.decode(Object.class, encoded.encoded(), encoded.flags()));
+    }
+
+    private static void assertRoundTrip(CacheValueTranscoder transcoder, Object value) {
+        EncodedValue encoded = transcoder.encode(value);
+        assertEquals(value, transcoder.decode(Object.class, encoded.encoded(), encoded.flags()));
+    }
+
+    record Price(String currency, BigDecimal amount) implements Serializable {
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.couchbase.client.java.codec.Transcoder.EncodedValue;
+import com.couchbase.client.java.kv.GetOptions;
+import com.couchbase.client.java.kv.GetResult;
+import com.couchbase.client.java.kv.MutationResult;
+import com.couchbase.client.java.kv.UpsertOptions;
+import com.couchbase.quarkus.extension.runtime.mutiny.MutinyCollection;
+
+import io.quarkus.cache.CompositeCacheKey;
+import io.quarkus.cache.DefaultCacheKey;
+import io.quarkus.runtime.BlockingOperationControl;
+import io.quarkus.runtime.IOThreadDetector;
+import io.smallrye.mutiny.Uni;
+
+class CouchbaseCacheTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final MutinyCollection collection = mock(MutinyCollection.class);
+    private final CacheValueTranscoder transcoder = new CacheValueTranscoder(getClass().getClassLoader(), List.of());
+    private final CouchbaseCache cache = new CouchbaseCache("prices", null, collection, transcoder, Optional.empty(),
+            null);
+
+    @BeforeAll
+    static void noIoThreads() {
+        // Set by Quarkus at startup, no thread of this test is an IO thread.
+        BlockingOperationControl.setIoThreadDetector(new IOThreadDetector[0]);
+    }
+
+    @Test
+    void keysOfDifferentTypesWithTheSameStringFormDoNotCollide() {
+        assertEquals("prices::int:1", cache.documentId(1));
+        assertEquals("prices::long:1", cache.documentId(1L));
+        assertEquals("prices::string:1", cache.documentId("1"));
+    }
+
+    @Test
+    void compositeKeyElementsArePrefixedWithTheirLength() {
+        String id = cache.documentId(new CompositeCacheKey("a,b", "c"));
+
+        assertEquals("prices::composite:10:string:a,b8:string:c", id);
+        assertNotEquals(id, cache.documentId(new CompositeCacheKey("a", "b,c")));
+    }
+
+    @Test
+    void encodesOtherKeysWithTheirClassName() {
+        assertEquals("prices::default", cache.documentId(new DefaultCacheKey("prices")));
+        assertEquals("prices::java.util.concurrent.TimeUnit:SECONDS", cache.documentId(TimeUnit.SECONDS));
+        assertEquals("prices::" + ProductId.class.getName() + ":ProductId[value=7]", cache.documentId(new ProductId(7)));
+    }
+
+    @Test
+    void rejectsKeysWithoutAStableStringForm() {
+        assertThrows(IllegalArgumentException.class, () -> cache.documentId(new Object()));
+        assertThrows(IllegalArgumentException.class, () -> cache.documentId(new int[] { 1 }));
+        assertThrows(IllegalArgumentException.class, () -> cache.documentId(new CompositeCacheKey("a", new Object())));
+    }
+
+    @Test
+    void hashesKeysTooLongForADocumentId() {
+        String key = "k".repeat(250);
+
+        String id = cache.documentId(key);
+
+        assertTrue(id.matches("prices::sha256:[0-9a-f]{64}"), id);
+        assertEquals(id, cache.documentId(key));
+        assertNotEquals(id, cache.documentId(key + "k"));
+        // The type is hashed with the key.
+        assertNotEquals(id, cache.documentId(new CompositeCacheKey(key)));
+    }
+
+    @Test
+    void returnsStoredValuesWithoutLoading() {
+        stored("prices::int:1", new BigDecimal("9.99"));
+        AtomicInteger loads = new AtomicInteger();
+
+        Object value = cache.get(1, key -> loads.incrementAndGet()).await().atMost(TIMEOUT);
+
+        assertEquals(new BigDecimal("9.99"), value);
+        assertEquals(0, loads.get());
+        verify(collection, never()).upsert(any(), any(), any(UpsertOptions.class));
+    }
+
+    @Test
+    void treatsValuesOfClassesThatAreNotAllowedAsMisses() {
+        stored("prices::int:1", new Price(new BigDecimal("9.99")));
+        when(collection.upsert(eq("prices::int:1"), any(), any(UpsertOptions.class)))
+                .thenReturn(Uni.createFrom().item(mock(MutationResult.class)));
+
+        Object value = cache.get(1, key -> "loaded").await().atMost(TIMEOUT);
+
+        assertEquals("loaded", value);
+        verify(collection).upsert(eq("prices::int:1"), eq("loaded"), any(UpsertOptions.class));
+    }
+
+    private void stored(String id, Object value) {
+        EncodedValue encoded = transcoder.encode(value);
+        GetResult result = mock(GetResult.class);
+        when(result.contentAs(Object.class))
+                .thenAnswer(invocation -> transcoder.decode(Object.class, encoded.encoded(), encoded.flags()));
+        when(collection.get(eq(id), any(GetOptions.class))).thenReturn(Uni.createFrom().item(result));
+    }
+
+    record ProductId(int value) {
+    }
+
+    record Price(BigDecimal amount) implements Serializable {
+    }
+}
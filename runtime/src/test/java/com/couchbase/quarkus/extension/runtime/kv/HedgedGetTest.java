@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.kv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.couchbase.client.core.Timer;
+import com.couchbase.client.core.deps.io.netty.util.Timeout;
+import com.couchbase.client.core.error.TimeoutException;
+import com.couchbase.client.java.kv.GetReplicaResult;
+import com.couchbase.client.java.kv.GetResult;
+import com.couchbase.quarkus.extension.runtime.CouchbaseCollectionConfig.HedgingConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class HedgedGetTest {
+
+    private static final int WINDOW_SIZE = 1000;
+
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private final Timeout timeout = mock(Timeout.class);
+    private final Timer timer = mock(Timer.class);
+
+    private final List<CompletableFuture<GetResult>> loads = new ArrayList<>();
+    private final Function<String, CompletableFuture<GetResult>> loader = id -> {
+        CompletableFuture<GetResult> load = new CompletableFuture<>();
+        loads.add(load);
+        return load;
+    };
+    private final List<CompletableFuture<GetReplicaResult>> replicaLoads = new ArrayList<>();
+    private final Function<String, CompletableFuture<GetReplicaResult>> replicaLoader = id -> {
+        CompletableFuture<GetReplicaResult> load = new CompletableFuture<>();
+        replicaLoads.add(load);
+        return load;
+    };
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    HedgedGetTest() {
+        when(timer.schedule(any(Runnable.class), any(Duration.class))).thenAnswer(call -> {
+            scheduled.add(call.getArgument(0));
+            return timeout;
+        });
+    }
+
+    @Test
+    void doesNotHedgeBeforeTheFirstWindowCompletes() throws Exception {
+        HedgedGet hedged = hedged(5);
+
+        GetResult result = mock(GetResult.class);
+        CompletableFuture<GetResult> get = hedged.get("id", id -> CompletableFuture.completedFuture(result),
+                replicaLoader);
+        assertSame(result, get.get());
+        verify(timer, never()).schedule(any(Runnable.class), any(Duration.class));
+    }
+
+    @Test
+    void hedgesNoMoreThanTheBudgetAllows() {
+        // 0.5% of gets: 1000 warmup gets earn 5 hedges, and every later get adds 5 of the 1000 credits a hedge costs.
+        HedgedGet hedged = hedged(0.5);
+        warmUp(hedged);
+
+        for (int i = 0; i < 7; i++) {
+            hedged.get("id", loader, replicaLoader);
+            scheduled.get(i).run();
+        }
+        // The five hedges spend 5000 of the 5025 credits earned by then, which leaves too few for gets 6 and 7.
+        assertEquals(5, replicaLoads.size());
+        assertEquals(5, sent());
+    }
+
+    @Test
+    void budgetIsCappedAtTenHedges() {
+        HedgedGet hedged = hedged(100);
+        warmUp(hedged);
+
+        // Every get earns a whole hedge, but the budget never holds more than 10.
+        for (int i = 0; i < 20; i++) {
+            hedged.get("id", loader, replicaLoader);
+        }
+        scheduled.forEach(Runnable::run);
+        assertEquals(10, replicaLoads.size());
+        assertEquals(10, sent());
+
+        for (int i = 0; i < 20; i++) {
+            hedged.get("id", loader, replicaLoader);
+        }
+        scheduled.subList(20, 40).forEach(Runnable::run);
+        assertEquals(20, replicaLoads.size());
+    }
+
+    @Test
+    void schedulesTheHedgeNoEarlierThanTheMinDelay() {
+        HedgedGet hedged = hedged(5);
+        warmUp(hedged);
+
+        hedged.get("id", loader, replicaLoader);
+
+        ArgumentCaptor<Duration> delay = ArgumentCaptor.forClass(Duration.class);
+        verify(timer).schedule(any(Runnable.class), delay.capture());
+        assertTrue(delay.getValue().compareTo(Duration.ofMillis(1)) >= 0);
+    }
+
+    @Test
+    void primaryAnsweringFirstCancelsTheHedge() throws Exception {
+        HedgedGet hedged = hedged(5);
+        warmUp(hedged);
+
+        CompletableFuture<GetResult> get = hedged.get("id", loader, replicaLoader);
+        GetResult result = mock(GetResult.class);
+        loads.get(0).complete(result);
+        scheduled.get(0).run();
+
+        assertSame(result, get.get());
+        verify(timeout).cancel();
+        assertTrue(replicaLoads.isEmpty());
+        assertEquals(0, sent());
+    }
+
+    @Test
+    void replicaAnsweringFirstWins() throws Exception {
+        HedgedGet hedged = hedged(5);
+        warmUp(hedged);
+
+        CompletableFuture<GetResult> get = hedged.get("id", loader, replicaLoader);
+        scheduled.get(0).run();
+        GetReplicaResult replica = mock(GetReplicaResult.class);
+        replicaLoads.get(0).complete(replica);
+        loads.get(0).complete(mock(GetResult.class));
+
+        assertSame(replica, get.get());
+        assertEquals(1, sent());
+        assertEquals(1, registry.get("couchbase.kv.hedges.won").counter().count());
+    }
+
+    @Test
+    void primaryTimeoutWaitsForTheHedge() throws Exception {
+        HedgedGet hedged = hedged(5);
+        warmUp(hedged);
+
+        CompletableFuture<GetResult> get = hedged.get("id", loader, replicaLoader);
+        scheduled.get(0).run();
+        loads.get(0).completeExceptionally(mock(TimeoutException.class));
+        assertFalse(get.isDone());
+
+        GetReplicaResult replica = mock(GetReplicaResult.class);
+        replicaLoads.get(0).complete(replica);
+        assertSame(replica, get.get());
+    }
+
+    @Test
+    void primaryTimeoutFailsOnceTheHedgeFails() {
+        HedgedGet hedged = hedged(5);
+        warmUp(hedged);
+
+        CompletableFuture<GetResult> get = hedged.get("id", loader, replicaLoader);
+        scheduled.get(0).run();
+        TimeoutException primaryTimeout = mock(TimeoutException.class);
+        loads.get(0).completeExceptionally(primaryTimeout);
+        replicaLoads.get(0).completeExceptionally(new IllegalStateException("replica failed"));
+
+        ExecutionException failure = assertThrows(ExecutionException.class, get::get);
+        assertSame(primaryTimeout, failure.getCause());
+    }
+
+    @Test
+    void otherPrimaryFailuresAreFinal() {
+        HedgedGet hedged = hedged(5);
+        warmUp(hedged);
+
+        CompletableFuture<GetResult> get = hedged.get("id", loader, replicaLoader);
+        scheduled.get(0).run();
+        loads.get(0).completeExceptionally(new IllegalStateException("failed"));
+
+        ExecutionException failure = assertThrows(ExecutionException.class, get::get);
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+        assertEquals(0, registry.get("couchbase.kv.hedges.won").counter().count());
+    }
+
+    @Test
+    void rejectsInvalidConfig() {
+        HedgingConfig percentile = config(1.0, 5);
+        assertThrows(IllegalArgumentException.class, () -> new HedgedGet("keyspace", timer, percentile, null));
+        HedgingConfig maxExtraLoad = config(0.95, 150);
+        assertThrows(IllegalArgumentException.class, () -> new HedgedGet("keyspace", timer, maxExtraLoad, null));
+    }
+
+    /**
+     * Completes a window of gets, so the next ones are hedged.
+     */
+    private static void warmUp(HedgedGet hedged) {
+        CompletableFuture<GetResult> done = CompletableFuture.completedFuture(mock(GetResult.class));
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            hedged.get("id", id -> done, id -> {
+                throw new AssertionError("No hedge is sent before the first window completes");
+            });
+        }
+    }
+
+    private HedgedGet hedged(double maxExtraLoad) {
+        return new HedgedGet("bucket.scope.collection", timer, config(0.95, maxExtraLoad), registry);
+    }
+
+    private double sent() {
+        return registry.get("couchbase.kv.hedges.sent").counter().count();
+    }
+
+    private static HedgingConfig config(double percentile, double maxExtraLoad) {
+        HedgingConfig config = mock(HedgingConfig.class);
+        when(config.enabled()).thenReturn(true);
+        when(config.percentile()).thenReturn(percentile);
+        when(config.minDelay()).thenReturn(Duration.ofMillis(1));
+        when(config.maxExtraLoad()).thenReturn(maxExtraLoad);
+        return config;
+    }
+}
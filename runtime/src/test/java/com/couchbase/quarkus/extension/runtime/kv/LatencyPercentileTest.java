@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.kv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyPercentileTest {
+
+    private static final long MICROS = 1000;
+
+    @Test
+    void hasNoEstimateBeforeTheFirstWindowCompletes() {
+        LatencyPercentile latencies = new LatencyPercentile(0.5, 4);
+
+        for (int i = 0; i < 3; i++) {
+            latencies.record(100 * MICROS);
+            assertEquals(-1, latencies.estimateNanos());
+        }
+        latencies.record(100 * MICROS);
+        assertTrue(latencies.estimateNanos() >= 0);
+    }
+
+    @Test
+    void estimatesTheUpperBoundOfThePercentileBucket() {
+        LatencyPercentile median = new LatencyPercentile(0.5, 4);
+        LatencyPercentile p75 = new LatencyPercentile(0.75, 4);
+
+        for (long micros : new long[] { 100, 100, 10_000, 10_000 }) {
+            median.record(micros * MICROS);
+            p75.record(micros * MICROS);
+        }
+        // 100us falls in the bucket [96us, 111us] and 10ms in [8192us, 10239us].
+        assertEquals(111 * MICROS, median.estimateNanos());
+        assertEquals(10_239 * MICROS, p75.estimateNanos());
+    }
+
+    @Test
+    void bucketsAreAtMostAQuarterWide() {
+        LatencyPercentile latencies = new LatencyPercentile(0.5, 1);
+
+        for (long micros = 0; micros <= 100_000; micros++) {
+            latencies.record(micros * MICROS);
+            long estimate = latencies.estimateNanos() / MICROS;
+            assertTrue(estimate >= micros && estimate <= micros + micros / 4, micros + "us estimated as " + estimate);
+            if (micros < 4) {
+                assertEquals(micros, estimate);
+            }
+        }
+    }
+
+    @Test
+    void eachWindowStartsFromEmptyCounts() {
+        LatencyPercentile latencies = new LatencyPercentile(0.5, 4);
+
+        for (int i = 0; i < 4; i++) {
+            latencies.record(10_000 * MICROS);
+        }
+        assertEquals(10_239 * MICROS, latencies.estimateNanos());
+
+        for (int i = 0; i < 4; i++) {
+            latencies.record(100 * MICROS);
+        }
+        assertEquals(111 * MICROS, latencies.estimateNanos());
+    }
+
+    @Test
+    void countsNegativeLatenciesAsZero() {
+        LatencyPercentile latencies = new LatencyPercentile(0.5, 1);
+
+        latencies.record(-5 * MICROS);
+        assertEquals(0, latencies.estimateNanos());
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.kv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.couchbase.client.core.error.DocumentNotFoundException;
+import com.couchbase.client.java.kv.ExistsResult;
+import com.couchbase.client.java.kv.GetResult;
+import com.couchbase.quarkus.extension.runtime.CouchbaseCollectionConfig.NearCacheConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NearCacheTest {
+
+    private static final Duration REVALIDATE_AFTER = Duration.ofMillis(100);
+
+    private final List<CompletableFuture<GetResult>> loads = new ArrayList<>();
+    private final Function<String, CompletableFuture<GetResult>> loader = id -> {
+        CompletableFuture<GetResult> load = new CompletableFuture<>();
+        loads.add(load);
+        return load;
+    };
+    private final List<String> casLoads = new ArrayList<>();
+    private long serverCas = 1;
+    private boolean serverExists = true;
+    private final Function<String, CompletableFuture<ExistsResult>> casLoader = id -> {
+        casLoads.add(id);
+        ExistsResult exists = mock(ExistsResult.class);
+        when(exists.exists()).thenReturn(serverExists);
+        when(exists.cas()).thenReturn(serverCas);
+        return CompletableFuture.completedFuture(exists);
+    };
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final NearCache cache = new NearCache("bucket.scope.collection", config(), registry);
+
+    @Test
+    void servesHitsWithoutLoading() throws Exception {
+        CompletableFuture<GetResult> first = cache.get("id", loader, casLoader);
+        CompletableFuture<GetResult> second = cache.get("id", loader, casLoader);
+        assertEquals(1, loads.size());
+
+        GetResult result = result(1);
+        loads.get(0).complete(result);
+        assertSame(result, first.get());
+        assertSame(result, second.get());
+        assertSame(result, cache.get("id", loader, casLoader).get());
+        assertEquals(1, loads.size());
+    }
+
+    @Test
+    void unchangedCasKeepsTheCachedCopy() throws Exception {
+        GetResult result = load("id", 1);
+        Thread.sleep(REVALIDATE_AFTER.toMillis() * 3 / 2);
+
+        assertSame(result, cache.get("id", loader, casLoader).get());
+        assertEquals(List.of("id"), casLoads);
+        assertEquals(1, loads.size());
+        assertEquals(1, revalidations("unchanged"));
+
+        // The revalidated copy counts as freshly loaded.
+        assertSame(result, cache.get("id", loader, casLoader).get());
+        assertEquals(1, casLoads.size());
+    }
+
+    @Test
+    void staleCasReloadsTheDocument() throws Exception {
+        load("id", 1);
+        Thread.sleep(REVALIDATE_AFTER.toMillis() * 3 / 2);
+        serverCas = 2;
+
+        CompletableFuture<GetResult> get = cache.get("id", loader, casLoader);
+        assertEquals(2, loads.size());
+        GetResult reloaded = result(2);
+        loads.get(1).complete(reloaded);
+
+        assertSame(reloaded, get.get());
+        assertEquals(1, revalidations("changed"));
+        assertSame(reloaded, cache.get("id", loader, casLoader).get());
+        assertEquals(2, loads.size());
+    }
+
+    @Test
+    void missingDocumentIsEvicted() throws Exception {
+        load("id", 1);
+        Thread.sleep(REVALIDATE_AFTER.toMillis() * 3 / 2);
+        serverExists = false;
+
+        CompletableFuture<GetResult> get = cache.get("id", loader, casLoader);
+        assertEquals(2, loads.size());
+        loads.get(1).completeExceptionally(mock(DocumentNotFoundException.class));
+
+        ExecutionException failure = assertThrows(ExecutionException.class, get::get);
+        assertInstanceOf(DocumentNotFoundException.class, failure.getCause());
+        cache.get("id", loader, casLoader);
+        assertEquals(3, loads.size());
+    }
+
+    @Test
+    void writeDuringLoadDoesNotLeaveAStaleEntry() throws Exception {
+        CompletableFuture<GetResult> inFlight = cache.get("id", loader, casLoader);
+        // A write invalidates the document while the fetch of its previous version is in flight.
+        cache.invalidate("id");
+        GetResult stale = result(1);
+        loads.get(0).complete(stale);
+        assertSame(stale, inFlight.get());
+
+        CompletableFuture<GetResult> afterWrite = cache.get("id", loader, casLoader);
+        assertEquals(2, loads.size());
+        GetResult fresh = result(2);
+        loads.get(1).complete(fresh);
+        assertSame(fresh, afterWrite.get());
+    }
+
+    @Test
+    void invalidateDropsTheCachedCopy() throws Exception {
+        load("id", 1);
+        cache.invalidate("id");
+
+        cache.get("id", loader, casLoader);
+        assertEquals(2, loads.size());
+    }
+
+    private GetResult load(String id, long cas) throws Exception {
+        CompletableFuture<GetResult> get = cache.get(id, loader, casLoader);
+        GetResult result = result(cas);
+        loads.get(loads.size() - 1).complete(result);
+        return get.get();
+    }
+
+    private double revalidations(String result) {
+        return registry.get("couchbase.near-cache.revalidations").tag("result", result).counter().count();
+    }
+
+    private static GetResult result(long cas) {
+        GetResult result = mock(GetResult.class);
+        when(result.cas()).thenReturn(cas);
+        return result;
+    }
+
+    private static NearCacheConfig config() {
+        NearCacheConfig config = mock(NearCacheConfig.class);
+        when(config.enabled()).thenReturn(true);
+        when(config.maxSize()).thenReturn(100L);
+        when(config.ttl()).thenReturn(Duration.ofMinutes(1));
+        when(config.revalidateAfter()).thenReturn(Optional.of(REVALIDATE_AFTER));
+        return config;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.kv;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.couchbase.client.core.Core;
+import com.couchbase.client.core.config.CouchbaseBucketConfig;
+import com.couchbase.client.core.node.KeyValueLocator;
+
+class PartitionLocatorTest {
+
+    private static final int PARTITIONS = 1024;
+    private static final int NODES = 3;
+
+    private final Core core = mock(Core.class, RETURNS_DEEP_STUBS);
+    private final PartitionLocator locator = new PartitionLocator(core, "bucket");
+
+    @Test
+    void groupsIdsByActiveNodeKeepingTheirOrder() {
+        CouchbaseBucketConfig config = mock(CouchbaseBucketConfig.class);
+        when(config.numberOfPartitions()).thenReturn(PARTITIONS);
+        when(config.nodeIndexForActive(anyInt(), eq(false))).thenAnswer(call -> (int) call.getArgument(0) % NODES);
+        when(core.configurationProvider().config().bucketConfig("bucket")).thenReturn(config);
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add("doc-" + i);
+        }
+        Map<Integer, List<String>> groups = locator.groupByActiveNode(ids);
+
+        List<String> regrouped = new ArrayList<>();
+        groups.forEach((node, group) -> {
+            for (String id : group) {
+                assertEquals(expectedNode(id), node, id);
+            }
+            regrouped.addAll(group);
+        });
+        assertEquals(ids.size(), regrouped.size());
+        for (List<String> group : groups.values()) {
+            List<String> inInputOrder = new ArrayList<>(ids);
+            inInputOrder.retainAll(group);
+            assertEquals(inInputOrder, group);
+        }
+    }
+
+    @Test
+    void putsEveryIdInTheUnknownGroupWithoutBucketConfig() {
+        when(core.configurationProvider().config().bucketConfig("bucket")).thenReturn(null);
+
+        Map<Integer, List<String>> groups = locator.groupByActiveNode(List.of("a", "b", "c"));
+
+        assertEquals(Map.of(PartitionLocator.UNKNOWN_NODE, List.of("a", "b", "c")), groups);
+    }
+
+    private static int expectedNode(String id) {
+        return KeyValueLocator.partitionForKey(id.getBytes(UTF_8), PARTITIONS) % NODES;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.kv;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+import com.couchbase.client.core.Core;
+import com.couchbase.client.core.config.CouchbaseBucketConfig;
+import com.couchbase.client.core.config.NodeInfo;
+import com.couchbase.client.core.error.DocumentUnretrievableException;
+import com.couchbase.client.core.node.KeyValueLocator;
+import com.couchbase.client.java.kv.GetAnyReplicaOptions;
+import com.couchbase.client.java.kv.GetReplicaResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ServerGroupRoutingTest {
+
+    private static final int PARTITIONS = 1024;
+
+    private final Core core = mock(Core.class, RETURNS_DEEP_STUBS);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ServerGroupRouting routing = new ServerGroupRouting("bucket.scope.collection", "group-a",
+            new PartitionLocator(core, "bucket"), registry);
+
+    @Test
+    void countsActiveRequestsByServerGroupOfTheActiveNode() {
+        // Even partitions are active on a node of group-a, odd ones on a node of group-b.
+        CouchbaseBucketConfig config = mock(CouchbaseBucketConfig.class);
+        when(config.numberOfPartitions()).thenReturn(PARTITIONS);
+        when(config.nodeIndexForActive(anyInt(), eq(false))).thenAnswer(call -> (int) call.getArgument(0) % 2);
+        NodeInfo local = mock(NodeInfo.class);
+        when(local.serverGroup()).thenReturn("group-a");
+        NodeInfo remote = mock(NodeInfo.class);
+        when(remote.serverGroup()).thenReturn("group-b");
+        when(config.nodeAtIndex(0)).thenReturn(local);
+        when(config.nodeAtIndex(1)).thenReturn(remote);
+        when(core.configurationProvider().config().bucketConfig("bucket")).thenReturn(config);
+
+        int expectedLocal = 0;
+        for (int i = 0; i < 100; i++) {
+            String id = "doc-" + i;
+            routing.recordActive("get", id);
+            if (KeyValueLocator.partitionForKey(id.getBytes(UTF_8), PARTITIONS) % 2 == 0) {
+                expectedLocal++;
+            }
+        }
+        routing.recordActive("upsert", "doc-0");
+
+        assertTrue(expectedLocal > 0 && expectedLocal < 100);
+        assertEquals(expectedLocal, requests("get", "local"));
+        assertEquals(100 - expectedLocal, requests("get", "remote"));
+        assertEquals(1, requests("upsert", "local") + requests("upsert", "remote"));
+        assertEquals(expectedLocal + requests("upsert", "local"), 101 * localRatio(), 1e-9);
+    }
+
+    @Test
+    void doesNotCountRequestsWithoutBucketConfig() {
+        when(core.configurationProvider().config().bucketConfig("bucket")).thenReturn(null);
+
+        routing.recordActive("get", "doc");
+
+        assertTrue(registry.find("couchbase.kv.server-group.requests").counters().isEmpty());
+        assertTrue(Double.isNaN(localRatio()));
+    }
+
+    @Test
+    void countsReplicaReadsServedByThePreferredServerGroupAsLocal() throws Exception {
+        GetReplicaResult result = mock(GetReplicaResult.class);
+        List<GetAnyReplicaOptions> sent = new ArrayList<>();
+
+        CompletableFuture<GetReplicaResult> read = routing.getAnyReplica("doc", options -> {
+            sent.add(options);
+            return CompletableFuture.completedFuture(result);
+        });
+
+        assertSame(result, read.get());
+        assertEquals(1, sent.size());
+        assertEquals(1, requests("get_any_replica", "local"));
+        assertEquals(1.0, localRatio());
+    }
+
+    @Test
+    void fallsBackToAnyCopyWhenThePreferredServerGroupHasNone() throws Exception {
+        GetReplicaResult result = mock(GetReplicaResult.class);
+        List<GetAnyReplicaOptions> sent = new ArrayList<>();
+
+        CompletableFuture<GetReplicaResult> read = routing.getAnyReplica("doc", options -> {
+            sent.add(options);
+            return sent.size() == 1
+                    ? CompletableFuture.failedFuture(mock(DocumentUnretrievableException.class))
+                    : CompletableFuture.completedFuture(result);
+        });
+
+        assertSame(result, read.get());
+        assertEquals(2, sent.size());
+        assertEquals(1, requests("get_any_replica", "remote"));
+        assertEquals(0.0, localRatio());
+    }
+
+    @Test
+    void otherReplicaReadFailuresAreNotRetried() {
+        List<GetAnyReplicaOptions> sent = new ArrayList<>();
+        IllegalStateException cause = new IllegalStateException("failed");
+
+        CompletableFuture<GetReplicaResult> read = routing.getAnyReplica("doc", options -> {
+            sent.add(options);
+            return CompletableFuture.failedFuture(cause);
+        });
+
+        ExecutionException failure = assertThrows(ExecutionException.class, read::get);
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+        assertEquals(1, sent.size());
+        assertTrue(registry.find("couchbase.kv.server-group.requests").counters().isEmpty());
+    }
+
+    private double requests(String operation, String serverGroup) {
+        var counter = registry.find("couchbase.kv.server-group.requests")
+                .tag("operation", operation)
+                .tag("server-group", serverGroup)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private double localRatio() {
+        return registry.get("couchbase.kv.server-group.local-ratio").gauge().value();
+    }
+}
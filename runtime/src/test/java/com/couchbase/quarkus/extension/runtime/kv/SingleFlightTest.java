@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.kv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.couchbase.client.java.kv.GetResult;
+
+class SingleFlightTest {
+
+    private final List<CompletableFuture<GetResult>> loads = new ArrayList<>();
+    private final Function<String, CompletableFuture<GetResult>> loader = id -> {
+        CompletableFuture<GetResult> load = new CompletableFuture<>();
+        loads.add(load);
+        return load;
+    };
+    private final SingleFlight singleFlight = new SingleFlight("bucket.scope.collection", null);
+
+    @Test
+    void concurrentGetsShareOneLoad() throws Exception {
+        CompletableFuture<GetResult> first = singleFlight.get("id", loader);
+        CompletableFuture<GetResult> second = singleFlight.get("id", loader);
+        assertEquals(1, loads.size());
+
+        GetResult result = mock(GetResult.class);
+        loads.get(0).complete(result);
+        assertSame(result, first.get());
+        assertSame(result, second.get());
+    }
+
+    @Test
+    void differentIdsLoadSeparately() {
+        singleFlight.get("a", loader);
+        singleFlight.get("b", loader);
+        assertEquals(2, loads.size());
+    }
+
+    @Test
+    void getAfterCompletionLoadsAgain() {
+        singleFlight.get("id", loader);
+        loads.get(0).complete(mock(GetResult.class));
+        singleFlight.get("id", loader);
+        assertEquals(2, loads.size());
+    }
+
+    @Test
+    void forgetDetachesTheGetInFlight() {
+        CompletableFuture<GetResult> before = singleFlight.get("id", loader);
+        singleFlight.forget("id");
+        CompletableFuture<GetResult> after = singleFlight.get("id", loader);
+        assertEquals(2, loads.size());
+
+        // The detached load completing must not remove the newer one.
+        loads.get(0).complete(mock(GetResult.class));
+        assertTrue(before.isDone());
+        assertFalse(after.isDone());
+        singleFlight.get("id", loader);
+        assertEquals(2, loads.size());
+    }
+
+    @Test
+    void failureReachesEveryCallerAndIsNotCached() {
+        CompletableFuture<GetResult> first = singleFlight.get("id", loader);
+        CompletableFuture<GetResult> second = singleFlight.get("id", loader);
+        IllegalStateException failure = new IllegalStateException("boom");
+        loads.get(0).completeExceptionally(failure);
+
+        assertSame(failure, assertThrows(ExecutionException.class, first::get).getCause());
+        assertSame(failure, assertThrows(ExecutionException.class, second::get).getCause());
+        singleFlight.get("id", loader);
+        assertEquals(2, loads.size());
+    }
+
+    @Test
+    void loaderThrowingFailsTheCallers() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        CompletableFuture<GetResult> result = singleFlight.get("id", id -> {
+            throw failure;
+        });
+        assertSame(failure, assertThrows(ExecutionException.class, result::get).getCause());
+        singleFlight.get("id", loader);
+        assertEquals(1, loads.size());
+    }
+
+    @Test
+    void cancellingOneCallerDoesNotAffectOthers() throws Exception {
+        CompletableFuture<GetResult> first = singleFlight.get("id", loader);
+        CompletableFuture<GetResult> second = singleFlight.get("id", loader);
+        first.cancel(false);
+
+        GetResult result = mock(GetResult.class);
+        loads.get(0).complete(result);
+        assertSame(result, second.get());
+    }
+}
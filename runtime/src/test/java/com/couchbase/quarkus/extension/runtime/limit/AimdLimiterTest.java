@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.limit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.couchbase.client.core.error.TimeoutException;
+import com.couchbase.quarkus.extension.runtime.CouchbaseLimiterConfig.ServiceLimiterConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AimdLimiterTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private final List<CompletableFuture<String>> sent = new ArrayList<>();
+    private final Supplier<CompletableFuture<String>> request = () -> {
+        CompletableFuture<String> response = new CompletableFuture<>();
+        sent.add(response);
+        return response;
+    };
+
+    @Test
+    void increasesByOneOverLimitWhileHalfUsed() {
+        AimdLimiter limiter = limiter(config(2, 0, Duration.ofSeconds(5)), TIMEOUT, null);
+
+        // 2 + 1/2 + 1/2.5 + 1/2.9 crosses 3 after three requests using half of the limit.
+        for (int i = 0; i < 3; i++) {
+            limiter.execute(request);
+            sent.get(i).complete("ok");
+        }
+        assertEquals(3, limiter.limit());
+
+        // A single request in flight is less than half of 3, so the limit stays.
+        for (int i = 3; i < 10; i++) {
+            limiter.execute(request);
+            sent.get(i).complete("ok");
+        }
+        assertEquals(3, limiter.limit());
+    }
+
+    @Test
+    void decreasesOnTimeoutOncePerWindow() {
+        AimdLimiter limiter = limiter(config(10, 0, Duration.ofSeconds(5)), TIMEOUT, null);
+
+        limiter.execute(request);
+        limiter.execute(request);
+        sent.get(0).completeExceptionally(mock(TimeoutException.class));
+        assertEquals(9, limiter.limit());
+        // Sent before the decrease, so it does not lower the limit again.
+        sent.get(1).completeExceptionally(mock(TimeoutException.class));
+        assertEquals(9, limiter.limit());
+
+        limiter.execute(request);
+        sent.get(2).completeExceptionally(mock(TimeoutException.class));
+        assertEquals(8, limiter.limit());
+    }
+
+    @Test
+    void decreasesOnSlowResponse() throws Exception {
+        AimdLimiter limiter = limiter(config(10, 0, Duration.ofMillis(1)), TIMEOUT, null);
+
+        limiter.execute(request);
+        Thread.sleep(20);
+        sent.get(0).complete("slow");
+        assertEquals(9, limiter.limit());
+    }
+
+    @Test
+    void doesNotDecreaseBelowMinLimit() {
+        AimdLimiter limiter = limiter(config(1, 0, Duration.ofSeconds(5)), TIMEOUT, null);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.execute(request);
+            sent.get(i).completeExceptionally(mock(TimeoutException.class));
+        }
+        assertEquals(1, limiter.limit());
+    }
+
+    @Test
+    void queuesThenRejectsWhenLimitIsReached() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AimdLimiter limiter = limiter(config(1, 1, Duration.ofSeconds(5)), TIMEOUT, registry);
+
+        CompletableFuture<String> first = limiter.execute(request);
+        CompletableFuture<String> queued = limiter.execute(request);
+        CompletableFuture<String> rejected = limiter.execute(request);
+        assertEquals(1, sent.size());
+        assertEquals(1, limiter.inFlight());
+        assertEquals(1, limiter.queued());
+        ExecutionException failure = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(ConcurrencyLimitExceededException.class, failure.getCause());
+        assertEquals(1, registry.get("couchbase.limiter.rejected").counter().count());
+
+        sent.get(0).complete("first");
+        assertEquals("first", first.get());
+        assertEquals(2, sent.size());
+        assertEquals(0, limiter.queued());
+        assertFalse(queued.isDone());
+
+        sent.get(1).complete("queued");
+        assertEquals("queued", queued.get());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void rejectsQueuedRequestsThatWaitedLongerThanTheTimeout() throws Exception {
+        AimdLimiter limiter = limiter(config(1, 1, Duration.ofSeconds(5)), Duration.ofMillis(1), null);
+
+        limiter.execute(request);
+        CompletableFuture<String> queued = limiter.execute(request);
+        Thread.sleep(20);
+        sent.get(0).complete("first");
+
+        ExecutionException failure = assertThrows(ExecutionException.class, queued::get);
+        assertInstanceOf(ConcurrencyLimitExceededException.class, failure.getCause());
+        assertEquals(1, sent.size());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void queuedRequestsKeepTheirFailure() {
+        AimdLimiter limiter = limiter(config(1, 1, Duration.ofSeconds(5)), TIMEOUT, null);
+
+        limiter.execute(request);
+        CompletableFuture<String> queued = limiter.execute(request);
+        sent.get(0).complete("first");
+        IllegalStateException cause = new IllegalStateException("failed");
+        sent.get(1).completeExceptionally(cause);
+
+        ExecutionException failure = assertThrows(ExecutionException.class, queued::get);
+        assertSame(cause, failure.getCause());
+        assertTrue(queued.isCompletedExceptionally());
+    }
+
+    @Test
+    void publishesLimitGauge() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        limiter(config(7, 0, Duration.ofSeconds(5)), TIMEOUT, registry);
+
+        assertEquals(7, registry.get("couchbase.limiter.limit").tag("service", "kv").gauge().value());
+    }
+
+    @Test
+    void rejectsInvalidBackoffRatio() {
+        ServiceLimiterConfig config = config(10, 0, Duration.ofSeconds(5));
+        when(config.backoffRatio()).thenReturn(1.0);
+        assertThrows(IllegalArgumentException.class, () -> limiter(config, TIMEOUT, null));
+    }
+
+    private static AimdLimiter limiter(ServiceLimiterConfig config, Duration timeout, SimpleMeterRegistry registry) {
+        return new AimdLimiter("default", "kv", config, timeout, registry);
+    }
+
+    private static ServiceLimiterConfig config(int initialLimit, int maxQueue, Duration latencyThreshold) {
+        ServiceLimiterConfig config = mock(ServiceLimiterConfig.class);
+        when(config.enabled()).thenReturn(true);
+        when(config.initialLimit()).thenReturn(initialLimit);
+        when(config.minLimit()).thenReturn(1);
+        when(config.maxLimit()).thenReturn(100);
+        when(config.latencyThreshold()).thenReturn(Optional.of(latencyThreshold));
+        when(config.backoffRatio()).thenReturn(0.9);
+        when(config.maxQueue()).thenReturn(maxQueue);
+        return config;
+    }
+}
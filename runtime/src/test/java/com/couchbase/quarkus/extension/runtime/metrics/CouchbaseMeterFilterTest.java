@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.couchbase.quarkus.extension.runtime.CouchbaseRuntimeConfig;
+import com.couchbase.quarkus.extension.runtime.CouchbaseRuntimeConfig.MetricsTag;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class CouchbaseMeterFilterTest {
+
+    private static final String OPERATIONS = "db.couchbase.operations";
+
+    /**
+     * The tags of an operation meter, in both the SDK's legacy and OpenTelemetry semantic conventions.
+     */
+    private static final Tags OPERATION_TAGS = Tags.of(
+            "db.couchbase.service", "kv", "couchbase.service", "kv",
+            "db.operation", "get", "db.operation.name", "get",
+            "db.name", "travel-sample", "db.namespace", "travel-sample",
+            "db.couchbase.scope", "inventory", "couchbase.scope.name", "inventory",
+            "db.couchbase.collection", "hotel", "couchbase.collection.name", "hotel",
+            "outcome", "Success", "error.type", "none");
+
+    @Test
+    void dropsTheTagsThatAreNotKeptInBothConventions() {
+        MeterRegistry registry = registry(filter(List.of(MetricsTag.SERVICE, MetricsTag.OPERATION, MetricsTag.OUTCOME),
+                Optional.empty()));
+
+        Meter.Id id = registry.counter(OPERATIONS, OPERATION_TAGS).getId();
+
+        assertEquals(Tags.of("db.couchbase.service", "kv", "couchbase.service", "kv",
+                "db.operation", "get", "db.operation.name", "get",
+                "outcome", "Success", "error.type", "none"), Tags.of(id.getTags()));
+    }
+
+    @Test
+    void keepsEveryTagByDefault() {
+        MeterRegistry registry = registry(filter(List.of(MetricsTag.values()), Optional.empty()));
+
+        Meter.Id id = registry.counter(OPERATIONS, OPERATION_TAGS).getId();
+
+        assertEquals(OPERATION_TAGS, Tags.of(id.getTags()));
+    }
+
+    @Test
+    void leavesMetersOfOtherLibrariesAlone() {
+        MeterRegistry registry = registry(filter(List.of(), Optional.empty()));
+
+        Meter.Id id = registry.counter("http.server.requests", "db.name", "orders", "outcome", "SUCCESS").getId();
+
+        assertEquals(Tags.of("db.name", "orders", "outcome", "SUCCESS"), Tags.of(id.getTags()));
+    }
+
+    @Test
+    void expressesSlosOfTimersInNanoseconds() {
+        MeterRegistry registry = registry(filter(List.of(MetricsTag.values()), slos()));
+
+        Timer timer = Timer.builder(OPERATIONS).register(registry);
+
+        assertArrayEquals(new double[] { 1_000_000, 10_000_000 }, buckets(timer.takeSnapshot()));
+    }
+
+    @Test
+    void expressesSlosOfDistributionSummariesInMicrosecondsByDefault() {
+        MeterRegistry registry = registry(filter(List.of(MetricsTag.values()), slos()));
+
+        DistributionSummary summary = DistributionSummary.builder(OPERATIONS).register(registry);
+
+        assertArrayEquals(new double[] { 1_000, 10_000 }, buckets(summary.takeSnapshot()));
+    }
+
+    @Test
+    void expressesSlosOfDistributionSummariesInTheirBaseUnit() {
+        CouchbaseMeterFilter filter = filter(List.of(MetricsTag.values()), slos());
+
+        DistributionSummary seconds = DistributionSummary.builder(OPERATIONS).baseUnit("s").register(registry(filter));
+        DistributionSummary millis = DistributionSummary.builder(OPERATIONS).baseUnit("ms").register(registry(filter));
+
+        assertArrayEquals(new double[] { 0.001, 0.01 }, buckets(seconds.takeSnapshot()));
+        assertArrayEquals(new double[] { 1, 10 }, buckets(millis.takeSnapshot()));
+    }
+
+    @Test
+    void addsSlosOnlyToOperationLatencies() {
+        MeterRegistry registry = registry(filter(List.of(MetricsTag.values()), slos()));
+
+        Timer timer = Timer.builder("db.couchbase.other").register(registry);
+
+        assertEquals(0, timer.takeSnapshot().histogramCounts().length);
+    }
+
+    private static CouchbaseMeterFilter filter(List<MetricsTag> tags, Optional<List<Duration>> slos) {
+        CouchbaseRuntimeConfig config = mock(CouchbaseRuntimeConfig.class);
+        when(config.metricsTags()).thenReturn(tags);
+        when(config.percentiles()).thenReturn(Optional.empty());
+        when(config.slos()).thenReturn(slos);
+        return new CouchbaseMeterFilter(config);
+    }
+
+    private static Optional<List<Duration>> slos() {
+        return Optional.of(List.of(Duration.ofMillis(1), Duration.ofMillis(10)));
+    }
+
+    private static MeterRegistry registry(CouchbaseMeterFilter filter) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        registry.config().meterFilter(filter);
+        return registry;
+    }
+
+    private static double[] buckets(HistogramSnapshot snapshot) {
+        return Arrays.stream(snapshot.histogramCounts()).mapToDouble(CountAtBucket::bucket).toArray();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.mutiny;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Multi;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+class VertxContextsTest {
+
+    private final Vertx vertx = Vertx.vertx();
+    private final ExecutorService sdkThread = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void close() throws Exception {
+        sdkThread.shutdownNow();
+        vertx.close().toCompletionStage().toCompletableFuture().get(5, SECONDS);
+    }
+
+    @Test
+    void fromFutureEmitsOnTheCallersContext() throws Exception {
+        CompletableFuture<String> operation = new CompletableFuture<>();
+        CompletableFuture<Context> callerContext = new CompletableFuture<>();
+        CompletableFuture<Context> emittedOn = new CompletableFuture<>();
+
+        vertx.runOnContext(ignored -> {
+            callerContext.complete(Vertx.currentContext());
+            VertxContexts.fromFuture(() -> operation).subscribe()
+                    .with(item -> emittedOn.complete(Vertx.currentContext()), emittedOn::completeExceptionally);
+        });
+        callerContext.get(5, SECONDS);
+        // The SDK completes its futures on its own threads.
+        sdkThread.execute(() -> operation.complete("result"));
+
+        assertSame(callerContext.get(), emittedOn.get(5, SECONDS));
+    }
+
+    @Test
+    void fromFutureEmitsOnTheCompletingThreadWithoutContext() throws Exception {
+        CompletableFuture<String> operation = new CompletableFuture<>();
+        CompletableFuture<Thread> emittedOn = new CompletableFuture<>();
+        AtomicReference<Context> emittedContext = new AtomicReference<>();
+
+        VertxContexts.fromFuture(() -> operation).subscribe()
+                .with(item -> {
+                    emittedContext.set(Vertx.currentContext());
+                    emittedOn.complete(Thread.currentThread());
+                }, emittedOn::completeExceptionally);
+        Thread completing = sdkThread.submit(() -> {
+            operation.complete("result");
+            return Thread.currentThread();
+        }).get(5, SECONDS);
+
+        assertSame(completing, emittedOn.get(5, SECONDS));
+        assertNull(emittedContext.get());
+    }
+
+    @Test
+    void fromFutureUnwrapsCompletionExceptions() throws Exception {
+        IllegalStateException cause = new IllegalStateException("failed");
+        CompletableFuture<Throwable> failure = new CompletableFuture<>();
+
+        VertxContexts.fromFuture(() -> CompletableFuture.<String> failedFuture(new CompletionException(cause)))
+                .subscribe().with(item -> failure.complete(null), failure::complete);
+
+        assertSame(cause, failure.get(5, SECONDS));
+    }
+
+    @Test
+    void onCallerContextEmitsEveryItemOnTheCallersContext() throws Exception {
+        CompletableFuture<Context> callerContext = new CompletableFuture<>();
+        List<Context> emittedOn = new CopyOnWriteArrayList<>();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        vertx.runOnContext(ignored -> {
+            callerContext.complete(Vertx.currentContext());
+            VertxContexts.onCallerContext(() -> Multi.createFrom().items(1, 2, 3).emitOn(sdkThread))
+                    .subscribe().with(item -> emittedOn.add(Vertx.currentContext()), completed::countDown);
+        });
+
+        assertTrue(completed.await(5, SECONDS));
+        assertEquals(List.of(callerContext.get(), callerContext.get(), callerContext.get()), emittedOn);
+    }
+
+    @Test
+    void onCallerContextLeavesStreamsWithoutContextAlone() {
+        List<Integer> items = VertxContexts.onCallerContext(() -> Multi.createFrom().items(1, 2, 3))
+                .collect().asList().await().indefinitely();
+
+        assertEquals(List.of(1, 2, 3), items);
+    }
+}
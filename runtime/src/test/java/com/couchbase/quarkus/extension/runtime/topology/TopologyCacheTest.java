@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2025 Couchbase, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.couchbase.quarkus.extension.runtime.topology;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.couchbase.quarkus.extension.runtime.topology.TopologyCache.Entry;
+
+class TopologyCacheTest {
+
+    private static final String CONNECTION_STRING = "couchbase://node1,node2";
+    private static final String CONFIG = "{\"rev\":42,\"nodesExt\":[{\"hostname\":\"$HOST\"}]}";
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    void readsWhatWasWritten() {
+        Path root = tmp.resolve("root");
+        cache(root, CONNECTION_STRING).write(TopologyCache.GLOBAL, "node1", CONFIG.getBytes(UTF_8));
+        cache(root, CONNECTION_STRING).write("bucket-travel", "node2", CONFIG.getBytes(UTF_8));
+
+        assertEquals(Optional.of(new Entry("node1", CONFIG)), cache(root, CONNECTION_STRING).read(TopologyCache.GLOBAL));
+        assertEquals(Optional.of(new Entry("node2", CONFIG)), cache(root, CONNECTION_STRING).read("bucket-travel"));
+        assertEquals(Optional.empty(), cache(root, CONNECTION_STRING).read("bucket-other"));
+    }
+
+    @Test
+    void createsDirectoriesReadableByTheOwnerOnly() throws Exception {
+        assumePosix();
+        Path root = tmp.resolve("root");
+        cache(root, CONNECTION_STRING).write(TopologyCache.GLOBAL, "node1", CONFIG.getBytes(UTF_8));
+
+        assertEquals(PosixFilePermissions.fromString("rwx------"), Files.getPosixFilePermissions(root));
+        assertEquals(PosixFilePermissions.fromString("rwx------"), Files.getPosixFilePermissions(root.resolve("default")));
+    }
+
+    @Test
+    void ignoresConfigsOlderThanTheMaxAge() throws Exception {
+        Path root = tmp.resolve("root");
+        cache(root, CONNECTION_STRING).write(TopologyCache.GLOBAL, "node1", CONFIG.getBytes(UTF_8));
+        Files.setLastModifiedTime(root.resolve("default").resolve(TopologyCache.GLOBAL),
+                FileTime.from(Instant.now().minus(Duration.ofHours(2))));
+
+        assertEquals(Optional.empty(), cache(root, CONNECTION_STRING).read(TopologyCache.GLOBAL));
+    }
+
+    @Test
+    void ignoresConfigsOfAnotherConnectionString() {
+        Path root = tmp.resolve("root");
+        cache(root, CONNECTION_STRING).write(TopologyCache.GLOBAL, "node1", CONFIG.getBytes(UTF_8));
+
+        assertEquals(Optional.empty(), cache(root, "couchbase://other").read(TopologyCache.GLOBAL));
+    }
+
+    @Test
+    void refusesGroupWritableDirectories() throws Exception {
+        assumePosix();
+        Path root = tmp.resolve("root");
+        cache(root, CONNECTION_STRING).write(TopologyCache.GLOBAL, "node1", CONFIG.getBytes(UTF_8));
+        Path directory = root.resolve("default");
+        Files.setPosixFilePermissions(directory, PosixFilePermissions.fromString("rwxrwx---"));
+
+        assertEquals(Optional.empty(), cache(root, CONNECTION_STRING).read(TopologyCache.GLOBAL));
+
+        byte[] newer = "{\"rev\":43}".getBytes(UTF_8);
+        cache(root, CONNECTION_STRING).write(TopologyCache.GLOBAL, "node1", newer);
+        assertFalse(Files.readString(directory.resolve(TopologyCache.GLOBAL), UTF_8).endsWith("{\"rev\":43}"));
+    }
+
+    @Test
+    void refusesDirectoriesOfAnotherUser() throws Exception {
+        assumePosix();
+        Path root = tmp.resolve("root");
+        cache(root, CONNECTION_STRING).write(TopologyCache.GLOBAL, "node1", CONFIG.getBytes(UTF_8));
+
+        // A group principal never equals the owner of a file, so the directories look like they belong to someone else.
+        UserPrincipal otherUser = Files.readAttributes(root, PosixFileAttributes.class).group();
+        TopologyCache foreign = new TopologyCache(root, "default", CONNECTION_STRING, Duration.ofHours(1), otherUser);
+        assertEquals(Optional.empty(), foreign.read(TopologyCache.GLOBAL));
+
+        Path bucketFile = root.resolve("default").resolve("bucket-travel");
+        foreign.write("bucket-travel", "node1", CONFIG.getBytes(UTF_8));
+        assertFalse(Files.exists(bucketFile));
+    }
+
+    @Test
+    void refusesARootThatIsASymbolicLink() throws Exception {
+        Path target = Files.createDirectory(tmp.resolve("target"));
+        Path root = tmp.resolve("root");
+        try {
+            Files.createSymbolicLink(root, target);
+        } catch (UnsupportedOperationException e) {
+            assumeTrue(false, "Symbolic links are not supported");
+        }
+        cache(root, CONNECTION_STRING).write(TopologyCache.GLOBAL, "node1", CONFIG.getBytes(UTF_8));
+
+        assertFalse(Files.exists(target.resolve("default").resolve(TopologyCache.GLOBAL)));
+        assertEquals(Optional.empty(), cache(root, CONNECTION_STRING).read(TopologyCache.GLOBAL));
+    }
+
+    private void assumePosix() {
+        assumeTrue(tmp.getFileSystem().supportedFileAttributeViews().contains("posix"), "POSIX permissions are required");
+    }
+
+    private static TopologyCache cache(Path root, String connectionString) {
+        return new TopologyCache(root, "default", connectionString, Duration.ofHours(1));
+    }
+}